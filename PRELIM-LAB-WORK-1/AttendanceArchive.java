@@ -0,0 +1,473 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Attendance Archive - Compressed Term Storage
+ * Stores the attendance records of a finished term in a compact file that
+ * can still be searched by time without unpacking all of it.
+ *
+ * Records are sorted by time in and cut into blocks of BLOCK_RECORDS.
+ * Inside a block each record is:
+ *   varint  seconds since the previous record (the first is 0)
+ *   varint  name id, varint course id (into the archive's dictionaries)
+ *   byte    SIGNATURE_UUID: 16 raw bytes follow, or
+ *           SIGNATURE_TEXT: varint length and UTF-8 bytes follow
+ * and the whole block is Deflate-compressed.
+ *
+ * File layout:
+ *   "ATAR" version
+ *   compressed blocks
+ *   dictionaries: names, then courses (varint count, then varint-length UTF-8)
+ *   block index: per block first/last time, offset, compressed length, records
+ *   footer: offset of the dictionaries, offset of the index, "ATAR"
+ *
+ * Opening an archive reads only the dictionaries and the index. A time
+ * range query inflates just the blocks whose time span overlaps the range.
+ */
+class AttendanceArchive implements Closeable {
+
+    static final String EXTENSION = ".atar";
+    static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final int MAGIC = 0x41544152; // "ATAR"
+    private static final int VERSION = 1;
+    private static final int BLOCK_RECORDS = 4096;
+    private static final int FOOTER_BYTES = 8 + 8 + 4;
+    private static final byte SIGNATURE_UUID = 0;
+    private static final byte SIGNATURE_TEXT = 1;
+
+    // Slack between a signature's creation time and the record's time in
+    private static final long SIGNATURE_WINDOW_SECONDS = 2;
+
+    /**
+     * One archived check-in, in the same fields as the tracker's records file.
+     */
+    static final class Entry {
+        final String name, course, timeIn, signature;
+
+        Entry(String name, String course, String timeIn, String signature) {
+            this.name = name;
+            this.course = course;
+            this.timeIn = timeIn;
+            this.signature = signature;
+        }
+
+        @Override
+        public String toString() {
+            return name + "|" + course + "|" + timeIn + "|" + signature;
+        }
+    }
+
+    /**
+     * Where one block lives and what time span it covers.
+     */
+    static final class Block {
+        final long firstSecond, lastSecond, offset;
+        final int length, records;
+
+        Block(long firstSecond, long lastSecond, long offset, int length, int records) {
+            this.firstSecond = firstSecond;
+            this.lastSecond = lastSecond;
+            this.offset = offset;
+            this.length = length;
+            this.records = records;
+        }
+    }
+
+    private final FileChannel channel;
+    private final String[] names;
+    private final String[] courses;
+    private final List<Block> blocks;
+
+    private AttendanceArchive(FileChannel channel, String[] names, String[] courses, List<Block> blocks) {
+        this.channel = channel;
+        this.names = names;
+        this.courses = courses;
+        this.blocks = blocks;
+    }
+
+    static long toSecond(String timeIn) {
+        try {
+            return LocalDateTime.parse(timeIn, TIME_FORMAT).toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Record has an unreadable time: " + timeIn);
+        }
+    }
+
+    static String fromSecond(long second) {
+        return LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC).format(TIME_FORMAT);
+    }
+
+    // ===========================================================================
+    // WRITING
+    // ===========================================================================
+
+    /**
+     * Writes entries to a new archive, sorted by time in. Returns the number
+     * of bytes written.
+     */
+    static long write(Path file, List<Entry> entries) throws IOException {
+        long[] seconds = new long[entries.size()];
+        Integer[] order = new Integer[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            seconds[i] = toSecond(entries.get(i).timeIn);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> seconds[i]));
+
+        Map<String, Integer> nameIds = new LinkedHashMap<>();
+        Map<String, Integer> courseIds = new LinkedHashMap<>();
+        List<Block> index = new ArrayList<>();
+
+        try (DataOutputStream out = new DataOutputStream(
+                 new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long offset = 8;
+
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            byte[] chunk = new byte[8192];
+            try {
+                for (int start = 0; start < order.length; start += BLOCK_RECORDS) {
+                    int end = Math.min(order.length, start + BLOCK_RECORDS);
+                    raw.reset();
+                    long previous = seconds[order[start]];
+                    for (int i = start; i < end; i++) {
+                        Entry entry = entries.get(order[i]);
+                        long second = seconds[order[i]];
+                        writeVarint(raw, second - previous);
+                        previous = second;
+                        writeVarint(raw, nameIds.computeIfAbsent(entry.name, k -> nameIds.size()));
+                        writeVarint(raw, courseIds.computeIfAbsent(entry.course, k -> courseIds.size()));
+                        writeSignature(raw, entry.signature);
+                    }
+
+                    deflater.reset();
+                    deflater.setInput(raw.toByteArray());
+                    deflater.finish();
+                    int length = 0;
+                    while (!deflater.finished()) {
+                        int n = deflater.deflate(chunk);
+                        out.write(chunk, 0, n);
+                        length += n;
+                    }
+                    index.add(new Block(seconds[order[start]], seconds[order[end - 1]], offset, length, end - start));
+                    offset += length;
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long dictionaryOffset = offset;
+            ByteArrayOutputStream dictionaries = new ByteArrayOutputStream();
+            writeStrings(dictionaries, nameIds.keySet());
+            writeStrings(dictionaries, courseIds.keySet());
+            dictionaries.writeTo(out);
+            offset += dictionaries.size();
+
+            long indexOffset = offset;
+            out.writeInt(index.size());
+            for (Block block : index) {
+                out.writeLong(block.firstSecond);
+                out.writeLong(block.lastSecond);
+                out.writeLong(block.offset);
+                out.writeInt(block.length);
+                out.writeInt(block.records);
+            }
+            out.writeLong(dictionaryOffset);
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC);
+        }
+        return Files.size(file);
+    }
+
+    private static void writeSignature(ByteArrayOutputStream out, String signature) {
+        UUID uuid = parseUuid(signature);
+        if (uuid != null) {
+            out.write(SIGNATURE_UUID);
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+        } else {
+            out.write(SIGNATURE_TEXT);
+            byte[] bytes = signature.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Returns the UUID only when it prints back exactly as given, so
+     * archived signatures always read back unchanged.
+     */
+    private static UUID parseUuid(String signature) {
+        if (signature.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(signature);
+            return uuid.toString().equals(signature) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeStrings(ByteArrayOutputStream out, Collection<String> strings) {
+        writeVarint(out, strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    // ===========================================================================
+    // READING
+    // ===========================================================================
+
+    /**
+     * Opens an archive, reading only its footer, dictionaries and index.
+     */
+    static AttendanceArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 8 + FOOTER_BYTES) {
+                throw new IOException("Not an attendance archive: " + file);
+            }
+            ByteBuffer header = read(channel, 0, 8);
+            ByteBuffer footer = read(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long dictionaryOffset = footer.getLong();
+            long indexOffset = footer.getLong();
+            if (header.getInt() != MAGIC || footer.getInt() != MAGIC) {
+                throw new IOException("Not an attendance archive: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported archive version " + version + ": " + file);
+            }
+
+            ByteBuffer dictionaries = read(channel, dictionaryOffset, (int) (indexOffset - dictionaryOffset));
+            String[] names = readStrings(dictionaries);
+            String[] courses = readStrings(dictionaries);
+
+            ByteBuffer index = read(channel, indexOffset, (int) (size - FOOTER_BYTES - indexOffset));
+            int count = index.getInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                blocks.add(new Block(index.getLong(), index.getLong(), index.getLong(), index.getInt(), index.getInt()));
+            }
+            return new AttendanceArchive(channel, names, courses, blocks);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            }
+            throw new IOException("Damaged attendance archive: " + file, e);
+        }
+    }
+
+    int size() {
+        int total = 0;
+        for (Block block : blocks) {
+            total += block.records;
+        }
+        return total;
+    }
+
+    List<Block> blocks() {
+        return Collections.unmodifiableList(blocks);
+    }
+
+    List<Entry> readAll() throws IOException {
+        return read(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the entries with fromSecond <= time in <= toSecond, inflating
+     * only the blocks that overlap that range.
+     */
+    List<Entry> read(long fromSecond, long toSecond) throws IOException {
+        List<Entry> result = new ArrayList<>();
+        for (Block block : blocks) {
+            if (block.lastSecond < fromSecond || block.firstSecond > toSecond) {
+                continue;
+            }
+            ByteBuffer in = inflate(block);
+            long second = block.firstSecond;
+            for (int i = 0; i < block.records; i++) {
+                second += readVarint(in);
+                String name = names[(int) readVarint(in)];
+                String course = courses[(int) readVarint(in)];
+                String signature = readSignature(in);
+                if (second >= fromSecond && second <= toSecond) {
+                    result.add(new Entry(name, course, fromSecond(second), signature));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Time range search with an optional case-insensitive text filter on
+     * name, course or signature. Null bounds mean open-ended.
+     */
+    List<Entry> search(LocalDateTime from, LocalDateTime to, String text) throws IOException {
+        long fromSecond = from == null ? Long.MIN_VALUE : from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to == null ? Long.MAX_VALUE : to.toEpochSecond(ZoneOffset.UTC);
+        List<Entry> entries = read(fromSecond, toSecond);
+        if (text == null || text.isBlank()) {
+            return entries;
+        }
+        String needle = text.trim().toLowerCase(Locale.ROOT);
+        List<Entry> matches = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.name.toLowerCase(Locale.ROOT).contains(needle) ||
+                entry.course.toLowerCase(Locale.ROOT).contains(needle) ||
+                entry.signature.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the entry with the given signature, ignoring case, whose time in
+     * is within [from, to] (null for no bound). Time-ordered signatures (see
+     * SignatureGenerator) carry their creation time, which is when the time
+     * in was taken, so only the blocks around that time are read. Other
+     * signatures, or ones whose record was moved in time, fall back to
+     * reading every block in the range.
+     */
+    Entry findSignature(String signature, LocalDateTime from, LocalDateTime to) throws IOException {
+        String wanted = signature.trim();
+        long fromSecond = from == null ? Long.MIN_VALUE : from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to == null ? Long.MAX_VALUE : to.toEpochSecond(ZoneOffset.UTC);
+        long millis = SignatureGenerator.timestampOf(wanted);
+        if (millis >= 0) {
+            long second = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault())
+                                       .toEpochSecond(ZoneOffset.UTC);
+            long windowFrom = Math.max(fromSecond, second - SIGNATURE_WINDOW_SECONDS);
+            long windowTo = Math.min(toSecond, second + SIGNATURE_WINDOW_SECONDS);
+            if (windowFrom <= windowTo) {
+                Entry entry = findSignature(wanted, read(windowFrom, windowTo));
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+        return findSignature(wanted, read(fromSecond, toSecond));
+    }
+
+    private static Entry findSignature(String signature, List<Entry> entries) {
+        for (Entry entry : entries) {
+            // Signatures are hex UUIDs, shown in lower case but often typed in upper
+            if (entry.signature.equalsIgnoreCase(signature)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer inflate(Block block) throws IOException {
+        byte[] compressed = new byte[block.length];
+        read(channel, block.offset, block.length).get(compressed);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(block.length * 4);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated archive block at offset " + block.offset);
+                }
+                out.write(chunk, 0, n);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new IOException("Damaged archive block at offset " + block.offset, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Archive ends early");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String readSignature(ByteBuffer in) throws IOException {
+        byte kind = in.get();
+        if (kind == SIGNATURE_UUID) {
+            return new UUID(in.getLong(), in.getLong()).toString();
+        }
+        if (kind != SIGNATURE_TEXT) {
+            throw new IOException("Damaged archive: unknown signature kind " + kind);
+        }
+        return readString(in);
+    }
+
+    private static String[] readStrings(ByteBuffer in) {
+        String[] strings = new String[(int) readVarint(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        return strings;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -10,6 +10,15 @@
  * 3. Type: java AttendanceTrackerClean
  * 4. The attendance window will appear!
  * 
+ * Add --fast-start to show the window before the records are loaded.
+ * For the quickest start, generate a class-data archive once with
+ * StartupBenchmark --generate-cds (see PRELIM-LAB-WORK-3) and run
+ *   java -XX:SharedArchiveFile=AttendanceTrackerClean.jsa
+ *        -cp AttendanceTrackerClean.jar AttendanceTrackerClean --fast-start
+ * Finished terms can be packed into compressed archives (Archive Term)
+ * and searched later without unpacking them (Open Archive).
+ * Add -Dattendance.signature=time-ordered for signatures that sort by time.
+ * 
  * @author Tanchingco, John Matthew R.
  * @version 3.0 - Modern Clean Design
  * @date January 2026
@@ -20,12 +29,23 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.border.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.time.format.DateTimeParseException;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Vector;
 
 public class AttendanceTrackerClean {
     
@@ -52,6 +72,21 @@ public class AttendanceTrackerClean {
     // Data
     private ArrayList<AttendanceRecord> attendanceList;
     private static final String ATTENDANCE_FILE = "attendance_records.txt";
+    private static final SignatureGenerator SIGNATURES = SignatureGenerator.configured();
+    
+    // Check-in pipeline: submitAttendance publishes, the consumers below do the work
+    private final CheckInRingBuffer checkIns = new CheckInRingBuffer(CheckInRingBuffer.DEFAULT_SIZE);
+    private final RecordFileAppender recordFile = new RecordFileAppender();
+    private final UpdateCoalescer<AttendanceRecord> newRecords =
+        new UpdateCoalescer<>(MAX_ROWS_PER_FRAME, this::appendRecords);
+    private static final int MAX_ROWS_PER_FRAME = 5000;
+    private static final long DRAIN_TIMEOUT_MILLIS = 5000;
+    private volatile boolean importing;
+    
+    // Startup
+    private final boolean fastStart;
+    private boolean recordsLoaded;
+    private static final Map<Integer, Font> UI_FONTS = new HashMap<>();
     
     /**
      * Inner class for attendance records
@@ -72,13 +107,111 @@ public class AttendanceTrackerClean {
         }
     }
     
+    /**
+     * Check-in consumer that appends each record to the records file and
+     * flushes once per batch. Full rewrites (clearing) go through the same
+     * object, so an append never interleaves with a rewrite.
+     */
+    private final class RecordFileAppender implements CheckInRingBuffer.Consumer {
+        private BufferedWriter writer;
+        
+        @Override
+        public synchronized void onEvent(CheckInRingBuffer.Event event, long sequence, boolean endOfBatch) {
+            try {
+                if (writer == null) {
+                    writer = new BufferedWriter(new FileWriter(ATTENDANCE_FILE, true));
+                }
+                writer.write(event.name + "|" + event.course + "|" + event.timeIn + "|" + event.signature);
+                writer.newLine();
+                if (endOfBatch) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                closeQuietly();
+                SwingUtilities.invokeLater(() ->
+                    showStyledMessage("Error saving records", "Error", JOptionPane.ERROR_MESSAGE));
+            }
+        }
+        
+        synchronized void rewrite(List<AttendanceRecord> records) throws IOException {
+            closeQuietly();
+            try (PrintWriter out = new PrintWriter(new FileWriter(ATTENDANCE_FILE))) {
+                for (AttendanceRecord record : records) {
+                    out.println(record.toString());
+                }
+            }
+        }
+        
+        private void closeQuietly() {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    // Already reported by the failed write
+                }
+                writer = null;
+            }
+        }
+    }
+    
+    /**
+     * Check-in consumer that copies each record out of the ring and hands it
+     * to the update coalescer, which adds it to the list and table with the
+     * rest of its frame.
+     */
+    private final class TableFeeder implements CheckInRingBuffer.Consumer {
+        @Override
+        public void onEvent(CheckInRingBuffer.Event event, long sequence, boolean endOfBatch) {
+            newRecords.add(new AttendanceRecord(event.name, event.course, event.timeIn, event.signature));
+        }
+    }
+    
+    /**
+     * Check-in consumer that counts this session's check-ins per course and
+     * shows them as the record badge's tooltip.
+     */
+    private final class SessionCounter implements CheckInRingBuffer.Consumer {
+        private final Map<String, Integer> perCourse = new TreeMap<>();
+        private int total;
+        
+        @Override
+        public void onEvent(CheckInRingBuffer.Event event, long sequence, boolean endOfBatch) {
+            total++;
+            perCourse.merge(event.course, 1, Integer::sum);
+            if (endOfBatch) {
+                String summary = "This session: " + total + " check-ins " + perCourse;
+                SwingUtilities.invokeLater(() -> recordCountLabel.setToolTipText(summary));
+            }
+        }
+    }
+    
     /**
      * Constructor
      */
     public AttendanceTrackerClean() {
+        this(false);
+    }
+    
+    /**
+     * In fast-start mode the window is shown first and the records file is
+     * read and loaded into the table only after the first frame has painted.
+     */
+    public AttendanceTrackerClean(boolean fastStart) {
+        this.fastStart = fastStart;
+        // A fast start loads the records after the first frame; until then the list is not complete
+        recordsLoaded = !fastStart;
         attendanceList = new ArrayList<>();
-        loadAttendanceRecords();
+        checkIns.subscribe("file", recordFile);
+        checkIns.subscribe("table", new TableFeeder());
+        checkIns.subscribe("counter", new SessionCounter());
+        checkIns.start();
+        // Let the file consumer finish its appends when the window is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> checkIns.close(DRAIN_TIMEOUT_MILLIS)));
+        if (!fastStart) {
+            loadAttendanceRecords();
+        }
         initializeGUI();
+        onFirstFrame(frame, this::finishStartup);
     }
     
     /**
@@ -100,6 +233,35 @@ public class AttendanceTrackerClean {
         frame.setVisible(true);
     }
     
+    /**
+     * Runs once the first frame is on screen. Fast start loads the records
+     * here, off the EDT, and fills the table in one go.
+     */
+    private void finishStartup() {
+        traceStartup("first-frame");
+        if (!fastStart) {
+            traceStartup("interactive");
+            return;
+        }
+        
+        recordCountLabel.setText("Loading...");
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                loadAttendanceRecords();
+                return null;
+            }
+            
+            @Override
+            protected void done() {
+                recordsLoaded = true;
+                loadTableData();
+                updateRecordCount();
+                traceStartup("interactive");
+            }
+        }.execute();
+    }
+    
     /**
      * Create modern header panel
      */
@@ -112,13 +274,13 @@ public class AttendanceTrackerClean {
         
         // Title
         JLabel titleLabel = new JLabel("Attendance Tracking System");
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 28));
+        titleLabel.setFont(uiFont(Font.BOLD, 28));
         titleLabel.setForeground(Color.WHITE);
         header.add(titleLabel, BorderLayout.WEST);
         
         // Record count badge
         recordCountLabel = new JLabel(attendanceList.size() + " Records");
-        recordCountLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
+        recordCountLabel.setFont(uiFont(Font.BOLD, 16));
         recordCountLabel.setForeground(Color.WHITE);
         recordCountLabel.setOpaque(true);
         recordCountLabel.setBackground(SECONDARY_COLOR);
@@ -158,7 +320,7 @@ public class AttendanceTrackerClean {
         cardHeader.setBorder(BorderFactory.createEmptyBorder(20, 25, 0, 25));
         
         JLabel cardTitle = new JLabel("New Entry");
-        cardTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        cardTitle.setFont(uiFont(Font.BOLD, 20));
         cardTitle.setForeground(TEXT_COLOR);
         cardHeader.add(cardTitle);
         
@@ -229,7 +391,7 @@ public class AttendanceTrackerClean {
         cardHeader.setBorder(BorderFactory.createEmptyBorder(20, 25, 0, 25));
         
         JLabel cardTitle = new JLabel("Attendance History");
-        cardTitle.setFont(new Font("Segoe UI", Font.BOLD, 20));
+        cardTitle.setFont(uiFont(Font.BOLD, 20));
         cardTitle.setForeground(TEXT_COLOR);
         cardHeader.add(cardTitle);
         
@@ -245,7 +407,7 @@ public class AttendanceTrackerClean {
         };
         
         attendanceTable = new JTable(tableModel);
-        attendanceTable.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        attendanceTable.setFont(uiFont(Font.PLAIN, 13));
         attendanceTable.setRowHeight(35);
         attendanceTable.setShowGrid(false);
         attendanceTable.setIntercellSpacing(new Dimension(0, 0));
@@ -253,7 +415,7 @@ public class AttendanceTrackerClean {
         attendanceTable.setSelectionForeground(TEXT_COLOR);
         
         // Header styling
-        attendanceTable.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 13));
+        attendanceTable.getTableHeader().setFont(uiFont(Font.BOLD, 13));
         attendanceTable.getTableHeader().setBackground(new Color(236, 240, 241));
         attendanceTable.getTableHeader().setForeground(TEXT_COLOR);
         attendanceTable.getTableHeader().setBorder(BorderFactory.createMatteBorder(0, 0, 2, 0, BORDER_COLOR));
@@ -294,6 +456,18 @@ public class AttendanceTrackerClean {
         exportBtn.addActionListener(e -> exportRecords());
         footer.add(exportBtn);
         
+        JButton importBtn = createSmallButton("Import Records", SUCCESS_COLOR);
+        importBtn.addActionListener(e -> importRecords());
+        footer.add(importBtn);
+        
+        JButton archiveBtn = createSmallButton("Archive Term", PRIMARY_COLOR);
+        archiveBtn.addActionListener(e -> archiveTerm());
+        footer.add(archiveBtn);
+        
+        JButton openArchiveBtn = createSmallButton("Open Archive", SECONDARY_COLOR);
+        openArchiveBtn.addActionListener(e -> openArchive());
+        footer.add(openArchiveBtn);
+        
         JButton clearBtn = createSmallButton("Clear All", DANGER_COLOR);
         clearBtn.addActionListener(e -> clearAllRecords());
         footer.add(clearBtn);
@@ -306,7 +480,7 @@ public class AttendanceTrackerClean {
      */
     private JTextField createStyledTextField() {
         JTextField field = new JTextField();
-        field.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        field.setFont(uiFont(Font.PLAIN, 14));
         field.setBorder(BorderFactory.createCompoundBorder(
             BorderFactory.createLineBorder(BORDER_COLOR, 1),
             BorderFactory.createEmptyBorder(10, 12, 10, 12)
@@ -323,7 +497,7 @@ public class AttendanceTrackerClean {
         panel.setBackground(CARD_COLOR);
         
         JLabel label = new JLabel(labelText);
-        label.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        label.setFont(uiFont(Font.PLAIN, 13));
         label.setForeground(TEXT_COLOR);
         label.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -342,7 +516,7 @@ public class AttendanceTrackerClean {
      */
     private JButton createModernButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        button.setFont(uiFont(Font.BOLD, 14));
         button.setForeground(Color.WHITE);
         button.setBackground(bgColor);
         button.setFocusPainted(false);
@@ -368,7 +542,7 @@ public class AttendanceTrackerClean {
      */
     private JButton createSmallButton(String text, Color bgColor) {
         JButton button = new JButton(text);
-        button.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        button.setFont(uiFont(Font.PLAIN, 13));
         button.setForeground(Color.WHITE);
         button.setBackground(bgColor);
         button.setFocusPainted(false);
@@ -393,12 +567,72 @@ public class AttendanceTrackerClean {
     // UTILITY METHODS
     // ===========================================================================
     
+    // Cards, buttons and table share a few Segoe UI sizes; each is made once
+    private static Font uiFont(int style, int size) {
+        return UI_FONTS.computeIfAbsent(style * 1000 + size, k -> new Font("Segoe UI", style, size));
+    }
+    
+    /**
+     * Calls action on the EDT once the window has painted (or half a second
+     * after it is shown), so a fast start reads the records file behind a
+     * visible window.
+     */
+    private static void onFirstFrame(Window window, Runnable action) {
+        Toolkit toolkit = Toolkit.getDefaultToolkit();
+        boolean[] done = {false};
+        Runnable once = () -> {
+            if (!done[0]) {
+                done[0] = true;
+                action.run();
+            }
+        };
+        AWTEventListener listener = new AWTEventListener() {
+            public void eventDispatched(AWTEvent event) {
+                if (event.getSource() == window) {
+                    toolkit.removeAWTEventListener(this);
+                    // Queued behind the paint that is being dispatched now
+                    SwingUtilities.invokeLater(once);
+                }
+            }
+        };
+        toolkit.addAWTEventListener(listener, AWTEvent.PAINT_EVENT_MASK);
+        javax.swing.Timer fallback = new javax.swing.Timer(500, e -> {
+            toolkit.removeAWTEventListener(listener);
+            once.run();
+        });
+        fallback.setRepeats(false);
+        // The fallback counts from when the window is shown, not from when it was built
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                window.removeWindowListener(this);
+                fallback.start();
+            }
+        });
+    }
+    
+    /**
+     * Startup milestone for StartupBenchmark (see there for the startup.*
+     * properties).
+     */
+    private static void traceStartup(String phase) {
+        if (!Boolean.getBoolean("startup.trace")) {
+            return;
+        }
+        long launched = Long.getLong("startup.launchMillis",
+            ProcessHandle.current().info().startInstant().map(i -> i.toEpochMilli()).orElse(0L));
+        System.out.println("STARTUP " + phase + " " + (System.currentTimeMillis() - launched));
+        if (phase.equals("interactive") && Boolean.getBoolean("startup.exitAfterInteractive")) {
+            System.exit(0);
+        }
+    }
+    
     private String getCurrentDateTime() {
         return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
     }
     
     private String generateESignature() {
-        return UUID.randomUUID().toString();
+        return SIGNATURES.next();
     }
     
     private void refreshFields() {
@@ -411,6 +645,10 @@ public class AttendanceTrackerClean {
     // ===========================================================================
     
     private void submitAttendance() {
+        if (!checkRecordsLoaded()) {
+            return;
+        }
+        
         String name = nameField.getText().trim();
         String course = courseField.getText().trim();
         String timeIn = timeInField.getText();
@@ -421,19 +659,106 @@ public class AttendanceTrackerClean {
             return;
         }
         
-        AttendanceRecord record = new AttendanceRecord(name, course, timeIn, signature);
-        attendanceList.add(record);
-        tableModel.addRow(new Object[]{name, course, timeIn, signature});
-        saveAttendanceRecords();
+        try {
+            checkIns.publish(name, course, timeIn, signature);
+        } catch (IllegalStateException e) {
+            showStyledMessage("Error saving records: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
         
         nameField.setText("");
         courseField.setText("");
         refreshFields();
-        updateRecordCount();
         
         showStyledMessage("Attendance recorded successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
     }
     
+    /**
+     * Submitting, clearing and exporting touch the records file, so they wait
+     * until a fast start has finished loading it and no import is running.
+     */
+    private boolean checkRecordsLoaded() {
+        if (!recordsLoaded) {
+            showStyledMessage("Records are still loading, please try again", "Please Wait",
+                              JOptionPane.INFORMATION_MESSAGE);
+            return false;
+        }
+        if (importing) {
+            showStyledMessage("Records are still being imported, please try again", "Please Wait",
+                              JOptionPane.INFORMATION_MESSAGE);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Applies the check-ins still on their way through the pipeline, so
+     * clearing, exporting, archiving and importing see every submitted
+     * record. Returns false, after telling the user, if the consumers do not
+     * catch up in time or one of them has stopped.
+     */
+    private boolean syncCheckIns() {
+        try {
+            if (!checkIns.drain(DRAIN_TIMEOUT_MILLIS)) {
+                showStyledMessage("Check-ins are still being saved, please try again", "Please Wait",
+                                  JOptionPane.INFORMATION_MESSAGE);
+                return false;
+            }
+        } catch (IllegalStateException e) {
+            showStyledMessage("Error saving records: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+        newRecords.flushNow();
+        return true;
+    }
+    
+    /**
+     * Adds one frame's worth of new records to the list, the table and the
+     * badge. Runs on the EDT.
+     */
+    private void appendRecords(List<AttendanceRecord> records) {
+        attendanceList.addAll(records);
+        addTableRows(records);
+        updateRecordCount();
+    }
+    
+    /**
+     * Appends rows with a single insert event. Rows go in after the existing
+     * ones, so the selection stays where it is; the view follows the new rows
+     * only if it was already scrolled to the bottom.
+     */
+    private void addTableRows(List<AttendanceRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        JScrollPane scrollPane = (JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, attendanceTable);
+        boolean atBottom = false;
+        if (scrollPane != null) {
+            BoundedRangeModel scroll = scrollPane.getVerticalScrollBar().getModel();
+            atBottom = scroll.getValue() + scroll.getExtent() >= scroll.getMaximum() - attendanceTable.getRowHeight();
+        }
+        
+        @SuppressWarnings("unchecked")
+        Vector<Vector<Object>> rows = (Vector<Vector<Object>>) (Vector<?>) tableModel.getDataVector();
+        int first = rows.size();
+        for (AttendanceRecord record : records) {
+            Vector<Object> row = new Vector<>(4);
+            row.add(record.name);
+            row.add(record.course);
+            row.add(record.timeIn);
+            row.add(record.signature);
+            rows.add(row);
+        }
+        tableModel.fireTableRowsInserted(first, rows.size() - 1);
+        
+        if (atBottom && first > 0) {
+            int last = rows.size() - 1;
+            // After the insert has been laid out
+            SwingUtilities.invokeLater(() ->
+                attendanceTable.scrollRectToVisible(attendanceTable.getCellRect(last, 0, true)));
+        }
+    }
+    
     private void updateRecordCount() {
         recordCountLabel.setText(attendanceList.size() + " Records");
     }
@@ -463,22 +788,75 @@ public class AttendanceTrackerClean {
     }
     
     private void saveAttendanceRecords() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(ATTENDANCE_FILE))) {
-            for (AttendanceRecord record : attendanceList) {
-                writer.println(record.toString());
-            }
+        try {
+            recordFile.rewrite(attendanceList);
         } catch (IOException e) {
             showStyledMessage("Error saving records", "Error", JOptionPane.ERROR_MESSAGE);
         }
     }
     
     private void loadTableData() {
-        for (AttendanceRecord record : attendanceList) {
-            tableModel.addRow(new Object[]{record.name, record.course, record.timeIn, record.signature});
+        addTableRows(attendanceList);
+    }
+    
+    /**
+     * Imports check-ins from a records-format file (name|course|time|signature)
+     * on a background thread. Each line goes through the check-in pipeline
+     * like a submitted one, so it is saved and shown the same way.
+     */
+    private void importRecords() {
+        if (!checkRecordsLoaded() || !syncCheckIns()) {
+            return;
         }
+        
+        JFileChooser chooser = new JFileChooser(new File("."));
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        
+        // The import thread is now the pipeline's only producer
+        importing = true;
+        new SwingWorker<int[], Void>() {
+            @Override
+            protected int[] doInBackground() throws IOException {
+                int imported = 0, skipped = 0;
+                try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] parts = line.split("\\|");
+                        if (parts.length == 4) {
+                            checkIns.publish(parts[0], parts[1], parts[2], parts[3]);
+                            imported++;
+                        } else if (!line.isBlank()) {
+                            skipped++;
+                        }
+                    }
+                }
+                return new int[]{imported, skipped};
+            }
+            
+            @Override
+            protected void done() {
+                importing = false;
+                try {
+                    int[] counts = get();
+                    showStyledMessage("Imported " + counts[0] + " records" +
+                                      (counts[1] > 0 ? " (" + counts[1] + " unreadable lines skipped)" : ""),
+                                      "Success", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showStyledMessage("Error importing: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
     }
     
     private void clearAllRecords() {
+        if (!checkRecordsLoaded() || !syncCheckIns()) {
+            return;
+        }
+        
         int confirm = JOptionPane.showConfirmDialog(frame,
             "Delete all attendance records? This cannot be undone!",
             "Confirm", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
@@ -493,23 +871,38 @@ public class AttendanceTrackerClean {
     }
     
     private void exportRecords() {
+        if (!checkRecordsLoaded() || !syncCheckIns()) {
+            return;
+        }
+        
         if (attendanceList.isEmpty()) {
             showStyledMessage("No records to export", "Error", JOptionPane.WARNING_MESSAGE);
             return;
         }
         
+        writeExport(attendanceList, null);
+    }
+    
+    /**
+     * Writes records to a timestamped export file. source names the archive
+     * the records came from, or is null for the current records.
+     */
+    private void writeExport(List<AttendanceRecord> records, String source) {
         String filename = "attendance_export_" + 
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".txt";
         
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
             writer.println("ATTENDANCE RECORDS EXPORT");
             writer.println("Export Date: " + getCurrentDateTime());
-            writer.println("Total Records: " + attendanceList.size());
+            if (source != null) {
+                writer.println("Source: " + source);
+            }
+            writer.println("Total Records: " + records.size());
             writer.println("=".repeat(60));
             writer.println();
             
-            for (int i = 0; i < attendanceList.size(); i++) {
-                AttendanceRecord r = attendanceList.get(i);
+            for (int i = 0; i < records.size(); i++) {
+                AttendanceRecord r = records.get(i);
                 writer.println("Record #" + (i + 1));
                 writer.println("  Name: " + r.name);
                 writer.println("  Course: " + r.course);
@@ -524,11 +917,175 @@ public class AttendanceTrackerClean {
         }
     }
     
+    // ===========================================================================
+    // TERM ARCHIVES
+    // ===========================================================================
+    
+    /**
+     * Packs the current records into a compressed archive (see
+     * AttendanceArchive) and offers to clear them for the next term.
+     */
+    private void archiveTerm() {
+        if (!checkRecordsLoaded() || !syncCheckIns()) {
+            return;
+        }
+        
+        if (attendanceList.isEmpty()) {
+            showStyledMessage("No records to archive", "Error", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        
+        String filename = "attendance_term_" + 
+            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + AttendanceArchive.EXTENSION;
+        List<AttendanceArchive.Entry> entries = new ArrayList<>(attendanceList.size());
+        for (AttendanceRecord r : attendanceList) {
+            entries.add(new AttendanceArchive.Entry(r.name, r.course, r.timeIn, r.signature));
+        }
+        
+        long bytes;
+        try {
+            bytes = AttendanceArchive.write(new File(filename).toPath(), entries);
+        } catch (IOException | IllegalArgumentException e) {
+            showStyledMessage("Error archiving: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        
+        int confirm = JOptionPane.showConfirmDialog(frame,
+            "Archived " + entries.size() + " records to " + filename + " (" + bytes + " bytes, " +
+            new File(ATTENDANCE_FILE).length() + " as text).\n\nClear the current records to start a new term?",
+            "Term Archived", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        
+        if (confirm == JOptionPane.YES_OPTION) {
+            attendanceList.clear();
+            tableModel.setRowCount(0);
+            saveAttendanceRecords();
+            updateRecordCount();
+        }
+    }
+    
+    /**
+     * Searches an archive by date range and text, and shows the matches with
+     * an option to export them. Only the archive blocks in range are read.
+     */
+    private void openArchive() {
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.setFileFilter(new FileNameExtensionFilter("Attendance archives (*" + AttendanceArchive.EXTENSION + ")",
+                                                          AttendanceArchive.EXTENSION.substring(1)));
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        
+        JTextField fromField = createStyledTextField();
+        JTextField toField = createStyledTextField();
+        JTextField textField = createStyledTextField();
+        JPanel form = new JPanel();
+        form.setLayout(new BoxLayout(form, BoxLayout.Y_AXIS));
+        form.setBackground(CARD_COLOR);
+        form.add(createFormField("From (yyyy-MM-dd, blank for start)", fromField));
+        form.add(Box.createRigidArea(new Dimension(0, 10)));
+        form.add(createFormField("To (yyyy-MM-dd, blank for end)", toField));
+        form.add(Box.createRigidArea(new Dimension(0, 10)));
+        form.add(createFormField("Name, course or signature contains", textField));
+        
+        if (JOptionPane.showConfirmDialog(frame, form, "Search " + file.getName(),
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        
+        LocalDateTime from, to;
+        try {
+            from = parseSearchDate(fromField.getText(), false);
+            to = parseSearchDate(toField.getText(), true);
+        } catch (DateTimeParseException e) {
+            showStyledMessage("Please enter dates as yyyy-MM-dd", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        String text = textField.getText();
+        
+        new SwingWorker<List<AttendanceArchive.Entry>, Void>() {
+            @Override
+            protected List<AttendanceArchive.Entry> doInBackground() throws IOException {
+                try (AttendanceArchive archive = AttendanceArchive.open(file.toPath())) {
+                    // A full time-ordered signature goes straight to its place in the time index
+                    if (SignatureGenerator.timestampOf(text) >= 0) {
+                        AttendanceArchive.Entry entry = archive.findSignature(text, from, to);
+                        return entry == null ? new ArrayList<>() : List.of(entry);
+                    }
+                    return archive.search(from, to, text);
+                }
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    showArchiveResults(file.getName(), get());
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showStyledMessage("Error reading archive: " + cause.getMessage(), "Error",
+                                      JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Reads a yyyy-MM-dd date as the start of that day, or its last second
+     * when endOfDay is set. Blank means no bound.
+     */
+    private static LocalDateTime parseSearchDate(String text, boolean endOfDay) {
+        if (text.isBlank()) {
+            return null;
+        }
+        LocalDate date = LocalDate.parse(text.trim());
+        return endOfDay ? date.atTime(23, 59, 59) : date.atStartOfDay();
+    }
+    
+    private void showArchiveResults(String archiveName, List<AttendanceArchive.Entry> entries) {
+        List<AttendanceRecord> records = new ArrayList<>(entries.size());
+        DefaultTableModel model = new DefaultTableModel(new String[]{"Name", "Course", "Time In", "Signature"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (AttendanceArchive.Entry entry : entries) {
+            records.add(new AttendanceRecord(entry.name, entry.course, entry.timeIn, entry.signature));
+            model.addRow(new Object[]{entry.name, entry.course, entry.timeIn, entry.signature});
+        }
+        
+        JDialog dialog = new JDialog(frame, archiveName + " - " + entries.size() + " Records", true);
+        dialog.setLayout(new BorderLayout(0, 10));
+        dialog.getContentPane().setBackground(BACKGROUND_COLOR);
+        
+        JTable table = new JTable(model);
+        table.setFont(uiFont(Font.PLAIN, 13));
+        table.setRowHeight(28);
+        table.getTableHeader().setFont(uiFont(Font.BOLD, 13));
+        dialog.add(new JScrollPane(table), BorderLayout.CENTER);
+        
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
+        buttons.setBackground(BACKGROUND_COLOR);
+        JButton exportBtn = createSmallButton("Export Results", SUCCESS_COLOR);
+        exportBtn.setEnabled(!records.isEmpty());
+        exportBtn.addActionListener(e -> writeExport(records, archiveName));
+        buttons.add(exportBtn);
+        JButton closeBtn = createSmallButton("Close", SECONDARY_COLOR);
+        closeBtn.addActionListener(e -> dialog.dispose());
+        buttons.add(closeBtn);
+        dialog.add(buttons, BorderLayout.SOUTH);
+        
+        dialog.setSize(800, 500);
+        dialog.setLocationRelativeTo(frame);
+        dialog.setVisible(true);
+    }
+    
     // ===========================================================================
     // MAIN METHOD
     // ===========================================================================
     
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> new AttendanceTrackerClean());
+        boolean fastStart = Arrays.asList(args).contains("--fast-start") || Boolean.getBoolean("startup.fast");
+        SwingUtilities.invokeLater(() -> new AttendanceTrackerClean(fastStart));
     }
 }
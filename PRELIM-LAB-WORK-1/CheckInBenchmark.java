@@ -0,0 +1,102 @@
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Check-In Benchmark
+ * Measures CheckInRingBuffer.publish() as the tracker's submit path sees it:
+ * per-call latency percentiles, throughput and bytes allocated per publish,
+ * with 1, 3 and 8 consumers.
+ *
+ * Every publish is timed on its own, so the latencies include one
+ * System.nanoTime() call; the clock's own cost is printed first to read
+ * them against. A publish that finds the ring full waits for the slowest
+ * consumer, and that wait is part of its latency.
+ *
+ * Usage (compile the tracker first):
+ *   java CheckInBenchmark [publishes]
+ */
+public class CheckInBenchmark {
+
+    private static final int DEFAULT_PUBLISHES = 1_000_000;
+    private static final int WARMUP_PUBLISHES = 200_000;
+    private static final int[] CONSUMER_COUNTS = {1, 3, 8};
+    private static final long DRAIN_TIMEOUT_MILLIS = 60_000;
+
+    // Consumed results, so the JIT cannot drop the work
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int publishes = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PUBLISHES;
+
+        System.out.printf(Locale.ROOT, "Cores: %d, clock read: %.1f ns%n",
+                          Runtime.getRuntime().availableProcessors(), clockNanos());
+        System.out.printf(Locale.ROOT, "%n%-10s %10s %10s %10s %10s %14s %12s%n",
+                          "Consumers", "p50 (ns)", "p99 (ns)", "p99.9 (ns)", "max (ns)", "publishes/s", "B/publish");
+        for (int consumers : CONSUMER_COUNTS) {
+            measure(consumers, publishes);
+        }
+    }
+
+    private static void measure(int consumers, int publishes) {
+        CheckInRingBuffer ring = new CheckInRingBuffer(CheckInRingBuffer.DEFAULT_SIZE);
+        for (int c = 0; c < consumers; c++) {
+            ring.subscribe("bench-" + c, (event, sequence, endOfBatch) -> sink += event.name.length());
+        }
+        ring.start();
+
+        // Strings are made up front, as the form's text already exists when submit runs
+        String[] names = new String[64];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Student " + i;
+        }
+        String course = "BSIT-1A";
+        String timeIn = "2026-10-19 08:00:00";
+        String signature = "0192a3b4-c5d6-7e8f-9a0b-1c2d3e4f5a6b";
+
+        for (int i = 0; i < WARMUP_PUBLISHES; i++) {
+            ring.publish(names[i & 63], course, timeIn, signature);
+        }
+        ring.drain(DRAIN_TIMEOUT_MILLIS);
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long[] latencies = new long[publishes];
+
+        long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < publishes; i++) {
+            long before = System.nanoTime();
+            ring.publish(names[i & 63], course, timeIn, signature);
+            latencies[i] = System.nanoTime() - before;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+        ring.close(DRAIN_TIMEOUT_MILLIS);
+
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT, "%-10d %10d %10d %10d %10d %14.0f %12.2f%n",
+                          consumers, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                          percentile(latencies, 0.999), latencies[publishes - 1],
+                          publishes * 1e9 / elapsed, (double) allocated / publishes);
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(q * (sorted.length - 1)))];
+    }
+
+    /**
+     * Average cost of back-to-back System.nanoTime() calls.
+     */
+    private static double clockNanos() {
+        int calls = 10_000_000;
+        long last = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            last = System.nanoTime();
+        }
+        sink += last;
+        return (double) (last - start) / calls;
+    }
+}
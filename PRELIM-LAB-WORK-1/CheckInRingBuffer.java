@@ -0,0 +1,287 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Check-In Ring Buffer - Disruptor-style event bus
+ * Check-ins are published once and handed to any number of consumers
+ * (saving to file, the table, counters, ...), each on its own thread, so
+ * adding a consumer adds no work to the publishing thread.
+ *
+ * The ring holds pre-allocated mutable events. The single producer claims
+ * the next slot, copies the check-in fields into it and publishes it by
+ * moving the cursor. Each consumer has its own sequence (the last event it
+ * finished) and reads everything published since in one batch. A slot is
+ * reused only once every consumer has passed it, so the producer waits on
+ * the slowest consumer when the ring is full.
+ *
+ * Publishing allocates nothing and takes no locks. Idle consumers spin and
+ * yield for a while, then park; the producer only unparks consumers that
+ * are parked.
+ *
+ * There must be only one publishing thread at a time.
+ *
+ * A consumer that throws has the error logged and moves on to the next
+ * event. If its thread dies anyway (an Error), publish() and drain() report
+ * it instead of waiting forever for it to catch up.
+ */
+class CheckInRingBuffer {
+
+    static final int DEFAULT_SIZE = 1024;
+
+    // Idle consumers spin (only worth it with a core to spare), then yield, then park
+    private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 1_000 : 0;
+    private static final int YIELD_TRIES = 100;
+
+    /**
+     * One slot of the ring. Consumers must copy out what they keep, because
+     * the slot is overwritten once every consumer has passed it.
+     */
+    static final class Event {
+        String name, course, timeIn, signature;
+    }
+
+    /**
+     * Receives every published event in order. endOfBatch is true on the
+     * last event of the run that is available right now, which is the time
+     * to flush or hand a batch on.
+     */
+    interface Consumer {
+        void onEvent(Event event, long sequence, boolean endOfBatch) throws Exception;
+    }
+
+    // Padding keeps each sequence on its own cache line, so the producer
+    // and consumers do not slow each other down by writing neighbours.
+    static class LeftPadding {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    static class SequenceValue extends LeftPadding {
+        volatile long value;
+    }
+
+    static final class Sequence extends SequenceValue {
+        long p9, p10, p11, p12, p13, p14, p15;
+
+        Sequence(long initial) {
+            value = initial;
+        }
+    }
+
+    /**
+     * A consumer with its thread and progress.
+     */
+    private final class Subscriber implements Runnable {
+        final String name;
+        final Consumer consumer;
+        final Sequence sequence = new Sequence(-1);
+        volatile boolean sleeping;
+        volatile Throwable failure;
+        Thread thread;
+
+        Subscriber(String name, Consumer consumer) {
+            this.name = name;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } catch (Error e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        private void consume() {
+            long next = sequence.value + 1;
+            while (true) {
+                long available = waitFor(next);
+                if (available < next) {
+                    return;
+                }
+                for (long s = next; s <= available; s++) {
+                    try {
+                        consumer.onEvent(events[(int) s & mask], s, s == available);
+                    } catch (Exception e) {
+                        System.err.println("Check-in consumer " + name + " failed on event " + s + ": " + e);
+                    }
+                }
+                sequence.value = available;
+                next = available + 1;
+            }
+        }
+
+        /**
+         * Returns the highest published sequence once it reaches next, or
+         * less than next when the buffer has been closed.
+         */
+        private long waitFor(long next) {
+            int tries = 0;
+            long available;
+            while ((available = cursor.value) < next) {
+                if (!running) {
+                    return available;
+                }
+                if (tries < SPIN_TRIES) {
+                    tries++;
+                    Thread.onSpinWait();
+                } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                    tries++;
+                    Thread.yield();
+                } else {
+                    // Announce the park before the last look, so a publish cannot slip past unseen
+                    sleeping = true;
+                    if (cursor.value < next && running) {
+                        LockSupport.park(this);
+                    }
+                    sleeping = false;
+                }
+            }
+            return available;
+        }
+    }
+
+    private final Event[] events;
+    private final int mask;
+    private final Sequence cursor = new Sequence(-1);
+    private final List<Subscriber> subscriberList = new ArrayList<>();
+    private Subscriber[] subscribers = new Subscriber[0];
+    private volatile boolean running;
+
+    // Producer-only state
+    private long nextSequence = -1;
+    private long cachedSlowest = -1;
+
+    /**
+     * size must be a power of two.
+     */
+    CheckInRingBuffer(int size) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two: " + size);
+        }
+        events = new Event[size];
+        for (int i = 0; i < size; i++) {
+            events[i] = new Event();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds a consumer. All consumers must be added before start().
+     */
+    void subscribe(String name, Consumer consumer) {
+        if (running) {
+            throw new IllegalStateException("Subscribe before starting the ring buffer");
+        }
+        subscriberList.add(new Subscriber(name, consumer));
+    }
+
+    void start() {
+        subscribers = subscriberList.toArray(new Subscriber[0]);
+        running = true;
+        for (Subscriber subscriber : subscribers) {
+            subscriber.thread = new Thread(subscriber, "check-in-" + subscriber.name);
+            subscriber.thread.setDaemon(true);
+            subscriber.thread.start();
+        }
+    }
+
+    /**
+     * Publishes one check-in. Waits only when the ring is full, and throws
+     * IllegalStateException if the consumer it is waiting on has died.
+     */
+    void publish(String name, String course, String timeIn, String signature) {
+        long next = nextSequence + 1;
+        long wrapPoint = next - events.length;
+        if (wrapPoint > cachedSlowest) {
+            long slowest;
+            while (wrapPoint > (slowest = slowestSequence(next - 1))) {
+                checkConsumersAlive(wrapPoint);
+                LockSupport.parkNanos(1_000);
+            }
+            cachedSlowest = slowest;
+        }
+
+        Event event = events[(int) next & mask];
+        event.name = name;
+        event.course = course;
+        event.timeIn = timeIn;
+        event.signature = signature;
+        nextSequence = next;
+        cursor.value = next;
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sleeping) {
+                LockSupport.unpark(subscriber.thread);
+            }
+        }
+    }
+
+    /**
+     * Waits until every consumer has handled everything published so far.
+     * Returns false if they have not caught up within timeoutMillis.
+     */
+    boolean drain(long timeoutMillis) {
+        long published = cursor.value;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (slowestSequence(published) < published) {
+            checkConsumersAlive(published);
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(10_000);
+        }
+        return true;
+    }
+
+    /**
+     * Drains for up to timeoutMillis, then stops the consumer threads.
+     */
+    void close(long timeoutMillis) {
+        try {
+            if (!drain(timeoutMillis)) {
+                System.err.println("Check-in consumers did not catch up before closing");
+            }
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+        }
+        running = false;
+        for (Subscriber subscriber : subscribers) {
+            LockSupport.unpark(subscriber.thread);
+            try {
+                subscriber.thread.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    long published() {
+        return cursor.value;
+    }
+
+    /**
+     * Throws IllegalStateException if a consumer that has not reached
+     * sequence yet has died, so it never will.
+     */
+    private void checkConsumersAlive(long sequence) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sequence.value < sequence && !subscriber.thread.isAlive()) {
+                throw new IllegalStateException("Check-in consumer " + subscriber.name + " has stopped: " +
+                                                subscriber.failure);
+            }
+        }
+    }
+
+    private long slowestSequence(long ceiling) {
+        long slowest = ceiling;
+        for (Subscriber subscriber : subscribers) {
+            slowest = Math.min(slowest, subscriber.sequence.value);
+        }
+        return slowest;
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * E-signature generators for attendance records.
+ *
+ *   random        UUID.randomUUID(), the original behaviour (default)
+ *   time-ordered  UUIDv7-style: creation time first, so signatures sort by
+ *                 the time they were made and can be looked up through an
+ *                 archive's time index
+ *
+ * Choose with -Dattendance.signature=random|time-ordered.
+ *
+ * A time-ordered signature is laid out as
+ *   48 bits  Unix time in milliseconds
+ *    4 bits  version 7
+ *   12 bits  per-thread counter within the millisecond
+ *    2 bits  variant
+ *   20 bits  id of the generating thread
+ *   42 bits  per-thread random bits
+ * Each thread has its own counter and SplittableRandom, so there is no
+ * shared state to contend on. The counter makes one thread's signatures
+ * strictly increasing; when it runs out within a millisecond the timestamp
+ * moves on to the next one. The thread id keeps two threads from ever
+ * producing the same signature in the same millisecond (ids only repeat
+ * after a million threads, and the random bits still separate those).
+ */
+interface SignatureGenerator {
+
+    String PROPERTY = "attendance.signature";
+
+    String next();
+
+    SignatureGenerator RANDOM = () -> UUID.randomUUID().toString();
+
+    SignatureGenerator TIME_ORDERED = new TimeOrdered();
+
+    /**
+     * Returns the generator chosen by the attendance.signature property.
+     */
+    static SignatureGenerator configured() {
+        return forName(System.getProperty(PROPERTY, "random"));
+    }
+
+    static SignatureGenerator forName(String name) {
+        switch (name) {
+            case "random":
+                return RANDOM;
+            case "time-ordered":
+                return TIME_ORDERED;
+            default:
+                throw new IllegalArgumentException("Unknown signature generator: " + name +
+                                                   " (use random or time-ordered)");
+        }
+    }
+
+    /**
+     * Returns the creation time in epoch milliseconds of a time-ordered
+     * signature, or -1 for any other signature.
+     */
+    static long timestampOf(String signature) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(signature.trim());
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        return uuid.version() == 7 && uuid.variant() == 2 ? uuid.getMostSignificantBits() >>> 16 : -1;
+    }
+
+    /**
+     * The UUIDv7-style generator.
+     */
+    final class TimeOrdered implements SignatureGenerator {
+
+        private static final int COUNTER_BITS = 12;
+        private static final int THREAD_BITS = 20;
+        private static final int RANDOM_BITS = 42;
+
+        private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+        private static final SplittableRandom SEEDS = new SplittableRandom();
+
+        /**
+         * Per-thread generator state.
+         */
+        private static final class State {
+            final long threadId = THREAD_IDS.getAndIncrement() & ((1 << THREAD_BITS) - 1);
+            final SplittableRandom random;
+            long millis;
+            int counter;
+
+            State(SplittableRandom random) {
+                this.random = random;
+            }
+        }
+
+        private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(() -> {
+            synchronized (SEEDS) {
+                return new State(SEEDS.split());
+            }
+        });
+
+        private TimeOrdered() {
+        }
+
+        @Override
+        public String next() {
+            return nextUuid().toString();
+        }
+
+        UUID nextUuid() {
+            State state = STATE.get();
+            long now = System.currentTimeMillis();
+            if (now > state.millis) {
+                state.millis = now;
+                state.counter = 0;
+            } else if (++state.counter >> COUNTER_BITS != 0) {
+                // Counter used up within this millisecond: borrow the next one
+                state.millis++;
+                state.counter = 0;
+            }
+
+            long high = state.millis << 16 | 0x7000L | state.counter;
+            long low = 0x8000000000000000L |
+                       state.threadId << RANDOM_BITS |
+                       state.random.nextLong() >>> (64 - RANDOM_BITS);
+            return new UUID(high, low);
+        }
+    }
+}
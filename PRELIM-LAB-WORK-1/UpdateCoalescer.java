@@ -0,0 +1,79 @@
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Collects items from any thread and hands them to the EDT in batches, at
+ * most once per frame. A burst of thousands of records then costs one
+ * table update and one repaint per frame instead of one per record.
+ *
+ * The first item after a flush arms a one-shot Swing timer; everything
+ * that arrives before it fires goes out in the same batch. A batch is capped
+ * at maxPerFlush so one flush cannot hold up the EDT; the rest follows in
+ * the next frame.
+ */
+class UpdateCoalescer<T> {
+
+    static final int FRAME_MILLIS = 16;
+
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Consumer<List<T>> flush;
+    private final int maxPerFlush;
+    private final Timer timer;
+
+    /**
+     * flush is called on the EDT with each non-empty batch, oldest first.
+     */
+    UpdateCoalescer(int maxPerFlush, Consumer<List<T>> flush) {
+        this.maxPerFlush = maxPerFlush;
+        this.flush = flush;
+        timer = new Timer(FRAME_MILLIS, e -> flushBatch());
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Queues an item. Safe to call from any thread.
+     */
+    void add(T item) {
+        pending.add(item);
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(timer::restart);
+        }
+    }
+
+    /**
+     * Hands over everything queued so far right away. Call on the EDT.
+     */
+    void flushNow() {
+        while (flushBatch()) {
+            // Callers need every queued item applied before they go on
+        }
+    }
+
+    /**
+     * Flushes one batch and re-arms the timer if items are left over.
+     * Returns true when more items are waiting.
+     */
+    private boolean flushBatch() {
+        scheduled.set(false);
+        List<T> batch = new ArrayList<>();
+        T item;
+        while (batch.size() < maxPerFlush && (item = pending.poll()) != null) {
+            batch.add(item);
+        }
+        if (!batch.isEmpty()) {
+            flush.accept(batch);
+        }
+        boolean more = !pending.isEmpty();
+        if (more && scheduled.compareAndSet(false, true)) {
+            timer.restart();
+        }
+        return more;
+    }
+}
@@ -0,0 +1,218 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Attendance-to-Grade Pipeline
+ * Grades a whole class straight from the Attendance Tracker's
+ * attendance_records.txt instead of typing attendance counts by hand.
+ *
+ * 1. Streams the attendance store once, counting distinct session days per
+ *    (student, course) in a hash table. Only the per-student counters are
+ *    kept in memory, never the records themselves.
+ * 2. Streams the lab-score roster and joins each row against that table.
+ * 3. Runs the calculator's rules for every student and writes one CSV line
+ *    each as it goes.
+ *
+ * Lab-score roster, one student per line (name and course as typed in the tracker):
+ *   name,course,excusedAbsences,excuseVerified,lab1,lab2,lab3
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --from-attendance attendance_records.txt labs.csv [grades.csv]
+ */
+class AttendanceGradePipeline {
+
+    static final String OUTPUT_HEADER =
+        "name,course,attendance,excusedAbsences,labWorkAverage,classStanding," +
+        "requiredForPassing,requiredForExcellent,status";
+
+    /**
+     * Session days seen for one (student, course) pair. Days are stored as
+     * yyyymmdd ints; a student rarely has more than a handful, so a small
+     * array beats a set.
+     */
+    static final class SessionCount {
+        int[] days = new int[TOTAL_DAYS_HINT];
+        int size;
+
+        void add(int day) {
+            for (int i = 0; i < size; i++) {
+                if (days[i] == day) {
+                    return;
+                }
+            }
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+            }
+            days[size++] = day;
+        }
+    }
+
+    private static final int TOTAL_DAYS_HINT = PrelimGradeCalculatorGUI.TOTAL_CLASSES;
+
+    /**
+     * Pass 1: one streaming pass over the attendance store.
+     * Returns session counts keyed by normalized "name|course".
+     */
+    static Map<String, SessionCount> aggregateSessions(BufferedReader attendance) throws IOException {
+        Map<String, SessionCount> sessions = new HashMap<>();
+        String line;
+        while ((line = attendance.readLine()) != null) {
+            // name|course|yyyy-MM-dd HH:mm:ss|signature
+            int first = line.indexOf('|');
+            int second = first < 0 ? -1 : line.indexOf('|', first + 1);
+            int third = second < 0 ? -1 : line.indexOf('|', second + 1);
+            if (third < 0 || third - second < 11) {
+                continue;
+            }
+            int day = parseDay(line, second + 1);
+            if (day < 0) {
+                continue;
+            }
+            String key = key(line.substring(0, first), line.substring(first + 1, second));
+            sessions.computeIfAbsent(key, k -> new SessionCount()).add(day);
+        }
+        return sessions;
+    }
+
+    /**
+     * Pass 2: streams the lab roster, joins attendance and grades each student.
+     * Returns the number of students graded.
+     */
+    static int gradeRoster(Map<String, SessionCount> sessions, BufferedReader roster, Writer out)
+            throws IOException {
+        PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+        out.write(OUTPUT_HEADER);
+        out.write('\n');
+
+        int count = 0;
+        String line;
+        while ((line = roster.readLine()) != null) {
+            if (RosterRecord.isSkippable(line)) {
+                continue;
+            }
+            String[] parts = line.split(",", -1);
+            String name = parts[0].trim();
+            String course = parts.length > 1 ? parts[1].trim() : "";
+
+            SessionCount attended = sessions.get(key(name, course));
+            int attendance = attended == null ? 0 : Math.min(attended.size, PrelimGradeCalculatorGUI.TOTAL_CLASSES);
+
+            String status;
+            RosterRecord record = null;
+            if (parts.length != 7) {
+                status = PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE;
+            } else {
+                try {
+                    record = new RosterRecord(name, course, attendance,
+                                              Integer.parseInt(parts[2].trim()),
+                                              Boolean.parseBoolean(parts[3].trim()),
+                                              Double.parseDouble(parts[4].trim()),
+                                              Double.parseDouble(parts[5].trim()),
+                                              Double.parseDouble(parts[6].trim()));
+                    status = record.validate();
+                } catch (NumberFormatException e) {
+                    status = PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE;
+                }
+            }
+
+            out.write(RosterRecord.csv(name));
+            out.write(',');
+            out.write(RosterRecord.csv(course));
+            out.write(',');
+            out.write(Integer.toString(attendance));
+            out.write(',');
+            if (status != null) {
+                out.write(",,,,,");
+                out.write(RosterRecord.csv(status));
+            } else {
+                record.grade(grade);
+                out.write(Integer.toString(grade.excusedAbsences));
+                out.write(',');
+                if (grade.autoFailed) {
+                    out.write(",,,,AUTO_FAIL");
+                } else {
+                    out.write(fixed2(grade.labWorkAverage));
+                    out.write(',');
+                    out.write(fixed2(grade.classStanding));
+                    out.write(',');
+                    out.write(fixed2(grade.requiredForPassing));
+                    out.write(',');
+                    out.write(fixed2(grade.requiredForExcellent));
+                    out.write(",OK");
+                }
+            }
+            out.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    static int run(Path attendanceFile, Path labRoster, Writer out) throws IOException {
+        Map<String, SessionCount> sessions;
+        try (BufferedReader reader = Files.newBufferedReader(attendanceFile, StandardCharsets.UTF_8)) {
+            sessions = aggregateSessions(reader);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(labRoster, StandardCharsets.UTF_8)) {
+            return gradeRoster(sessions, reader, out);
+        }
+    }
+
+    // ===========================================================================
+    // HELPERS
+    // ===========================================================================
+
+    /**
+     * Names and courses are typed by hand in the tracker, so match them
+     * case-insensitively with surrounding and repeated spaces ignored.
+     */
+    static String key(String name, String course) {
+        return normalize(name) + "|" + normalize(course);
+    }
+
+    private static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    sb.append(' ');
+                    pendingSpace = false;
+                }
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads "yyyy-MM-dd" at the given offset as a yyyymmdd int, or -1.
+     */
+    private static int parseDay(String line, int start) {
+        int day = 0;
+        for (int i = start; i < start + 10; i++) {
+            char c = line.charAt(i);
+            if (i == start + 4 || i == start + 7) {
+                if (c != '-') {
+                    return -1;
+                }
+            } else if (c >= '0' && c <= '9') {
+                day = day * 10 + (c - '0');
+            } else {
+                return -1;
+            }
+        }
+        return day;
+    }
+
+    private static String fixed2(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
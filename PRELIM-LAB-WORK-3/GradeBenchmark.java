@@ -0,0 +1,317 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Grade Benchmark Suite
+ * Measures the grading formulas and report building before the calculator
+ * is rolled out portal-wide:
+ *
+ *   requiredScore   computeRequiredPrelimScore()
+ *   calculate       the full calculateGrade() decision path: parsing the
+ *                   field text, validation, grade computation and the
+ *                   auto-fail branch (mixed input)
+ *   calculateFail   the same path with every student auto-failed
+ *   displayResults  displayResults() string building (buildResultText)
+ *   renderReport    the batch GradeReportRenderer, for comparison
+ *
+ * Each benchmark runs at batch size 1 (one student per operation) and at
+ * 1,000,000 students per operation. Like a JMH run, every benchmark and
+ * batch size runs in FORKS fresh JVMs, so the JIT profile of one workload
+ * never shapes the code measured for the next. Each fork does warmup
+ * iterations, then timed iterations. The report gives time and throughput
+ * per student with a 99.9% confidence interval over the timed iterations of
+ * all forks (Student's t, as JMH prints it), plus bytes allocated per
+ * student (the JMH gc profiler's gc.alloc.rate.norm).
+ *
+ * Every benchmark body sits in its own small method so it shows up as one
+ * compiled unit in a profile. For assembly-level profiles run under perf with
+ *   -XX:+UnlockDiagnosticVMOptions -XX:+DebugNonSafepoints
+ *
+ * Usage (a full run takes about six minutes):
+ *   java PrelimGradeCalculatorGUI --benchmark [name filter]
+ */
+class GradeBenchmark {
+
+    static final int SINGLE = 1;
+    static final int BATCH = 1_000_000;
+
+    private static final int FORKS = 2;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 500_000_000L;
+
+    private static final String[] NAMES = {"requiredScore", "calculate", "calculateFail", "displayResults", "renderReport"};
+
+    // Two-sided 99.9% quantiles of Student's t for 1..30 degrees of freedom
+    private static final double[] T_999 = {
+        636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+        4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850,
+        3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646,
+    };
+
+    // Distinct field texts the parsing benchmarks cycle through
+    private static final int TEXT_POOL = 1 << 16;
+
+    // Single-student operations between clock reads, so timing stays out of the numbers
+    private static final int OPS_PER_CLOCK_READ = 1024;
+
+    // Consumed results, so the JIT cannot drop the work
+    private static volatile long sink;
+
+    /**
+     * Work over students [from, from + count) of the input set.
+     */
+    interface Workload {
+        long run(int from, int count);
+    }
+
+    // Pre-generated inputs shared by every benchmark
+    private final int[] attendance = new int[BATCH];
+    private final int[] excused = new int[BATCH];
+    private final double[] lab1 = new double[BATCH];
+    private final double[] lab2 = new double[BATCH];
+    private final double[] lab3 = new double[BATCH];
+    private final double[] classStanding = new double[BATCH];
+    private final int[] failingAttendance = new int[BATCH];
+    private final String[] attendanceText = new String[TEXT_POOL];
+    private final String[] excusedText = new String[TEXT_POOL];
+    private final String[] failingText = new String[TEXT_POOL];
+    private final String[] lab1Text = new String[TEXT_POOL];
+    private final String[] lab2Text = new String[TEXT_POOL];
+    private final String[] lab3Text = new String[TEXT_POOL];
+
+    private final PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+    private final GradeReportRenderer renderer = new GradeReportRenderer();
+
+    GradeBenchmark() {
+        SplittableRandom random = new SplittableRandom(2026);
+        for (int i = 0; i < BATCH; i++) {
+            excused[i] = random.nextInt(3);
+            attendance[i] = random.nextInt(PrelimGradeCalculatorGUI.TOTAL_CLASSES - excused[i] + 1);
+            lab1[i] = random.nextInt(10001) / 100.0;
+            lab2[i] = random.nextInt(10001) / 100.0;
+            lab3[i] = random.nextInt(10001) / 100.0;
+            classStanding[i] = random.nextDouble() * 100;
+            failingAttendance[i] = random.nextInt(2);
+        }
+        for (int i = 0; i < TEXT_POOL; i++) {
+            attendanceText[i] = String.valueOf(attendance[i]);
+            excusedText[i] = String.valueOf(excused[i]);
+            failingText[i] = String.valueOf(failingAttendance[i]);
+            lab1Text[i] = String.valueOf(lab1[i]);
+            lab2Text[i] = String.valueOf(lab2[i]);
+            lab3Text[i] = String.valueOf(lab3[i]);
+        }
+    }
+
+    // ===========================================================================
+    // BENCHMARK BODIES
+    // ===========================================================================
+
+    long requiredScore(int from, int count) {
+        double sum = 0;
+        for (int i = from; i < from + count; i++) {
+            sum += PrelimGradeCalculatorGUI.computeRequiredPrelimScore(classStanding[i],
+                                                                        PrelimGradeCalculatorGUI.PASSING_GRADE);
+        }
+        return (long) sum;
+    }
+
+    long calculate(int from, int count) {
+        return calculatePath(from, count, attendanceText, excusedText);
+    }
+
+    long calculateFail(int from, int count) {
+        return calculatePath(from, count, failingText, null);
+    }
+
+    /**
+     * Parses the field text the way calculateGrade() reads its text fields,
+     * then validates and grades.
+     */
+    private long calculatePath(int from, int count, String[] attendedText, String[] excusedTexts) {
+        long result = 0;
+        for (int i = from; i < from + count; i++) {
+            int t = i & (TEXT_POOL - 1);
+            int attended = Integer.parseInt(attendedText[t].trim());
+            // Failing inputs have no excused absences, so 0-1 attended is always 4+ unexcused
+            int excusedAbsences = excusedTexts == null ? 0 : Integer.parseInt(excusedTexts[t].trim());
+            double l1 = Double.parseDouble(lab1Text[t].trim());
+            double l2 = Double.parseDouble(lab2Text[t].trim());
+            double l3 = Double.parseDouble(lab3Text[t].trim());
+            String error = PrelimGradeCalculatorGUI.validateInputs(attended, excusedAbsences, true, l1, l2, l3);
+            if (error != null) {
+                result += error.length();
+                continue;
+            }
+            grade.compute(attended, excusedAbsences, l1, l2, l3);
+            result += grade.autoFailed ? 1 : (long) grade.requiredForPassing;
+        }
+        return result;
+    }
+
+    long displayResults(int from, int count) {
+        long length = 0;
+        for (int i = from; i < from + count; i++) {
+            grade.compute(attendance[i], excused[i], lab1[i], lab2[i], lab3[i]);
+            String text = grade.autoFailed
+                ? PrelimGradeCalculatorGUI.buildAutoFailText(grade)
+                : PrelimGradeCalculatorGUI.buildResultText(attendance[i], excused[i], grade.totalClassesThatCount,
+                                                           grade.attendanceScore, lab1[i], lab2[i], lab3[i],
+                                                           grade.labWorkAverage, grade.classStanding,
+                                                           grade.requiredForPassing, grade.requiredForExcellent);
+            length += text.length();
+        }
+        return length;
+    }
+
+    long renderReport(int from, int count) {
+        long length = 0;
+        for (int i = from; i < from + count; i++) {
+            grade.compute(attendance[i], excused[i], lab1[i], lab2[i], lab3[i]);
+            length += renderer.render(grade);
+        }
+        return length;
+    }
+
+    // ===========================================================================
+    // HARNESS
+    // ===========================================================================
+
+    /**
+     * Runs the suite, one fresh JVM per fork of each benchmark and batch size.
+     */
+    static void run(String filter) throws IOException, InterruptedException {
+        System.out.printf(Locale.ROOT, "%n%-16s %9s %14s %12s %16s %12s%n",
+                          "Benchmark", "Batch", "ns/student", "+/- 99.9%", "students/s", "B/student");
+        for (String name : NAMES) {
+            if (filter != null && !name.contains(filter)) {
+                continue;
+            }
+            for (int batch : new int[]{SINGLE, BATCH}) {
+                List<Double> nanosPerStudent = new ArrayList<>();
+                double allocated = 0;
+                for (int fork = 0; fork < FORKS; fork++) {
+                    String[] result = fork(name, batch).split(" ");
+                    for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                        nanosPerStudent.add(Double.parseDouble(result[i]));
+                    }
+                    allocated += Double.parseDouble(result[MEASURE_ITERATIONS]) / FORKS;
+                }
+                report(name, batch, nanosPerStudent, allocated);
+            }
+        }
+    }
+
+    /**
+     * Runs one fork in a new JVM with the same JVM options and class path,
+     * and returns the line it prints: the timed iterations in ns/student,
+     * then bytes allocated per student.
+     */
+    private static String fork(String name, int batch) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("PrelimGradeCalculatorGUI");
+        command.add("--benchmark-fork");
+        command.add(name);
+        command.add(String.valueOf(batch));
+
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        String result = null;
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (line.startsWith("FORK ")) {
+                    result = line.substring(5);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IOException("Benchmark fork for " + name + " (batch " + batch + ") failed");
+        }
+        return result;
+    }
+
+    /**
+     * Body of one fork: measures a single benchmark at a single batch size
+     * and prints the FORK line that run() reads.
+     */
+    static void runFork(String name, int batch) {
+        GradeBenchmark benchmark = new GradeBenchmark();
+        Workload workload;
+        switch (name) {
+            case "requiredScore": workload = benchmark::requiredScore; break;
+            case "calculate": workload = benchmark::calculate; break;
+            case "calculateFail": workload = benchmark::calculateFail; break;
+            case "displayResults": workload = benchmark::displayResults; break;
+            case "renderReport": workload = benchmark::renderReport; break;
+            default: throw new IllegalArgumentException("Unknown benchmark: " + name);
+        }
+        System.out.println("FORK " + measure(batch, workload));
+    }
+
+    private static String measure(int batch, Workload workload) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        StringBuilder result = new StringBuilder();
+        long allocated = 0;
+        long students = 0;
+        int cursor = 0;
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS + MEASURE_ITERATIONS; iteration++) {
+            boolean measuring = iteration >= WARMUP_ITERATIONS;
+            long bytesBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            long deadline = start + ITERATION_NANOS;
+            long done = 0;
+            long now;
+            int opsPerRead = batch == SINGLE ? OPS_PER_CLOCK_READ : 1;
+            do {
+                for (int op = 0; op < opsPerRead; op++) {
+                    sink += workload.run(cursor, batch);
+                    cursor = batch == BATCH ? 0 : (cursor + 1) % BATCH;
+                }
+                done += (long) batch * opsPerRead;
+                now = System.nanoTime();
+            } while (now < deadline);
+
+            if (measuring) {
+                result.append(String.format(Locale.ROOT, "%.4f ", (double) (now - start) / done));
+                allocated += threads.getThreadAllocatedBytes(thread) - bytesBefore;
+                students += done;
+            }
+        }
+        return result.append(String.format(Locale.ROOT, "%.4f", (double) allocated / students)).toString();
+    }
+
+    private static void report(String name, int batch, List<Double> nanosPerStudent, double allocated) {
+        int n = nanosPerStudent.size();
+        double mean = 0;
+        for (double value : nanosPerStudent) {
+            mean += value;
+        }
+        mean /= n;
+        double variance = 0;
+        for (double value : nanosPerStudent) {
+            variance += (value - mean) * (value - mean);
+        }
+        // Half-width of the interval; past 30 degrees of freedom the df = 30 value errs on the wide side
+        double t = T_999[Math.min(n - 1, T_999.length) - 1];
+        double error = t * Math.sqrt(variance / (n - 1)) / Math.sqrt(n);
+
+        System.out.printf(Locale.ROOT, "%-16s %9d %14.2f %12.2f %16.0f %12.1f%n",
+                          name, batch, mean, error, 1e9 / mean, allocated);
+    }
+}
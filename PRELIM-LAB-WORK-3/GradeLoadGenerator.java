@@ -0,0 +1,133 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local load generator for the grading HTTP service.
+ * Keeps up to the given number of requests in flight, then reports
+ * throughput and p50/p99 latency.
+ *
+ * Without a URL it starts a GradeService on a free local port first, so
+ * one command measures the whole stack:
+ *   java PrelimGradeCalculatorGUI --load-test
+ *   java PrelimGradeCalculatorGUI --load-test 100000 10000 http://localhost:8080/grade
+ */
+class GradeLoadGenerator {
+
+    static final int DEFAULT_REQUESTS = 50_000;
+    static final int DEFAULT_CONCURRENCY = 10_000;
+
+    static void run(String url, int requests, int concurrency) throws Exception {
+        GradeService localService = null;
+        if (url == null) {
+            localService = new GradeService(0);
+            localService.start();
+            url = "http://localhost:" + localService.port() + "/grade";
+            System.out.println("Started local grading service at " + url);
+        }
+
+        ExecutorService clientExecutor = GradeService.createExecutor();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .build();
+        try {
+            URI uri = URI.create(url);
+            String[] bodies = sampleBodies(1024);
+
+            // Warm up the JIT and the connection pool before measuring
+            int warmup = Math.min(requests / 10, 5_000);
+            System.out.println("Warming up with " + warmup + " requests...");
+            fire(client, uri, bodies, warmup, Math.min(concurrency, 256));
+
+            System.out.println("Sending " + requests + " requests, " + concurrency + " in flight...");
+            long start = System.nanoTime();
+            Result result = fire(client, uri, bodies, requests, concurrency);
+            long elapsed = System.nanoTime() - start;
+
+            long[] latencies = result.latencies;
+            Arrays.sort(latencies);
+            System.out.println("=".repeat(60));
+            System.out.printf("Requests:    %d (%d failed)%n", requests, result.failures.get());
+            System.out.printf("Elapsed:     %.2f s%n", elapsed / 1e9);
+            System.out.printf("Throughput:  %.0f req/s%n", requests / (elapsed / 1e9));
+            System.out.printf("Latency p50: %.2f ms%n", percentile(latencies, 0.50) / 1e6);
+            System.out.printf("Latency p99: %.2f ms%n", percentile(latencies, 0.99) / 1e6);
+            System.out.printf("Latency max: %.2f ms%n", latencies[latencies.length - 1] / 1e6);
+            System.out.println("=".repeat(60));
+        } finally {
+            clientExecutor.shutdownNow();
+            if (localService != null) {
+                localService.stop();
+            }
+        }
+    }
+
+    private static Result fire(HttpClient client, URI uri, String[] bodies, int requests, int concurrency)
+            throws InterruptedException {
+        Result result = new Result(requests);
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(bodies[i % bodies.length]))
+                .build();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    result.latencies[index] = System.nanoTime() - sent;
+                    if (error != null || response.statusCode() >= 500) {
+                        result.failures.incrementAndGet();
+                    }
+                    inFlight.release();
+                    done.countDown();
+                });
+        }
+        done.await();
+        return result;
+    }
+
+    /**
+     * Builds a mix of valid, auto-fail and rejected requests.
+     */
+    private static String[] sampleBodies(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] bodies = new String[count];
+        for (int i = 0; i < count; i++) {
+            int excused = random.nextInt(3);
+            int attendance = random.nextInt(PrelimGradeCalculatorGUI.TOTAL_CLASSES - excused + 1);
+            bodies[i] = "{\"attendance\":" + attendance +
+                        ",\"excusedAbsences\":" + excused +
+                        ",\"excuseVerified\":" + (random.nextInt(10) != 0) +
+                        ",\"lab1\":" + random.nextInt(101) +
+                        ",\"lab2\":" + random.nextInt(101) +
+                        ",\"lab3\":" + random.nextInt(101) + "}";
+        }
+        return bodies;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static final class Result {
+        final long[] latencies;
+        final AtomicInteger failures = new AtomicInteger();
+
+        Result(int requests) {
+            latencies = new long[requests];
+        }
+    }
+}
@@ -0,0 +1,428 @@
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grade Report Renderer - Batch Version
+ * Renders the same "YOUR CURRENT GRADES / WHAT YOU NEED ON THE PRELIM EXAM /
+ * HOW IT WORKS" report as the GUI, for a whole roster at a time.
+ *
+ * The report text is compiled once into literal chunks and value slots.
+ * Rendering copies chunks into one reusable char buffer and writes numbers
+ * with fixed-point formatting, so no String.format or per-student
+ * StringBuilder is created. Numbers always use '.' and lines end in '\n'.
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --report roster.csv reports.txt
+ *   java PrelimGradeCalculatorGUI --report roster.csv reports/ --split
+ */
+class GradeReportRenderer {
+
+    // Value slots filled for each student
+    private static final int TOTAL_CLASSES = 0;
+    private static final int EXCUSED = 1;
+    private static final int COUNTED = 2;
+    private static final int ATTENDANCE = 3;
+    private static final int ATTENDANCE_SCORE = 4;
+    private static final int LAB1 = 5;
+    private static final int LAB2 = 6;
+    private static final int LAB3 = 7;
+    private static final int LAB_AVERAGE = 8;
+    private static final int CLASS_STANDING = 9;
+    private static final int REQUIRED_PASSING = 10;
+    private static final int REQUIRED_EXCELLENT = 11;
+    private static final int LOCKED_IN = 12;
+    private static final int POINTS_NEEDED = 13;
+    private static final int UNEXCUSED = 14;
+    private static final int SLOT_COUNT = 15;
+
+    private static final String[] SLOT_NAMES = {
+        "totalClasses", "excused", "counted", "attendance", "attendanceScore",
+        "lab1", "lab2", "lab3", "labAverage", "classStanding",
+        "requiredForPassing", "requiredForExcellent", "lockedIn", "pointsNeeded", "unexcused"
+    };
+    private static final boolean[] SLOT_IS_INTEGER = {
+        true, true, true, true, false,
+        false, false, false, false, false,
+        false, false, false, false, true
+    };
+
+    private static final String RULE = "═══════════════════════════════════════════════════════════\n";
+
+    private static final Template CURRENT_GRADES = Template.compile(
+        RULE +
+        "                    YOUR CURRENT GRADES\n" +
+        RULE + "\n" +
+        "  Total Classes:        {totalClasses}\n" +
+        "  Excused Absences:     {excused}\n" +
+        "  Classes That Count:   {counted}\n" +
+        "  Attendance:           {attendance}/{counted} classes ({attendanceScore}%)\n\n" +
+        "  Lab Work 1:           {lab1}\n" +
+        "  Lab Work 2:           {lab2}\n" +
+        "  Lab Work 3:           {lab3}\n\n" +
+        "  Lab Work Average:     {labAverage}\n" +
+        "  Class Standing:       {classStanding} (70% of final grade)\n\n" +
+        RULE +
+        "              WHAT YOU NEED ON THE PRELIM EXAM\n" +
+        RULE + "\n");
+
+    private static final Template PASS_IMPOSSIBLE = Template.compile(
+        "  TO PASS (Final Grade of 75):\n" +
+        "  ❌ Impossible - would need {requiredForPassing}/100\n\n" +
+        "  Your current Class Standing is too low.\n");
+    private static final Template ADVICE_ATTENDANCE = Template.compile(
+        "  Focus on improving your attendance.\n\n");
+    private static final Template ADVICE_LAB_WORK = Template.compile(
+        "  Focus on improving your lab work grades.\n\n");
+    private static final Template ADVICE_BOTH = Template.compile(
+        "  Focus on improving both attendance and lab work.\n\n");
+    private static final Template ADVICE_GENERAL = Template.compile(
+        "  Focus on improving attendance and lab work.\n\n");
+    private static final Template PASS_GUARANTEED = Template.compile(
+        "  TO PASS (Final Grade of 75):\n" +
+        "  ✓ Already Guaranteed!\n\n" +
+        "  You can score 0 on the Prelim Exam and still pass!\n" +
+        "  Your Class Standing alone ensures a passing grade.\n\n");
+    private static final Template PASS_NEEDED = Template.compile(
+        "  TO PASS (Final Grade of 75):\n" +
+        "  Need at least: {requiredForPassing}/100\n\n");
+
+    private static final Template EXCELLENT_IMPOSSIBLE = Template.compile(
+        "  FOR EXCELLENT (Final Grade of 100):\n" +
+        "  ❌ Impossible - would need {requiredForExcellent}/100\n\n");
+    private static final Template EXCELLENT_GUARANTEED = Template.compile(
+        "  FOR EXCELLENT (Final Grade of 100):\n" +
+        "  ⭐ Already Guaranteed!\n\n");
+    private static final Template EXCELLENT_NEEDED = Template.compile(
+        "  FOR EXCELLENT (Final Grade of 100):\n" +
+        "  Need exactly: {requiredForExcellent}/100\n\n");
+
+    private static final Template HOW_IT_WORKS = Template.compile(
+        RULE +
+        "                       HOW IT WORKS\n" +
+        RULE + "\n" +
+        "  Final Grade = (Prelim Exam × 30%) + (Class Standing × 70%)\n\n" +
+        "  With your Class Standing of {classStanding}:\n" +
+        "  • You already have {lockedIn} points locked in ({classStanding} × 70%)\n" +
+        "  • The Prelim Exam can add up to 30 more points (100 × 30%)\n\n");
+    private static final Template POINTS_BREAKDOWN = Template.compile(
+        "  To reach 75: You need {pointsNeeded} more points\n" +
+        "  Since exam is worth 30%: {pointsNeeded} ÷ 0.30 = {requiredForPassing}\n");
+    private static final Template FOOTER = Template.compile("\n" + RULE);
+
+    private static final Template AUTO_FAIL = Template.compile(
+        RULE +
+        "                  AUTOMATIC FAILURE\n" +
+        RULE + "\n" +
+        "  ❌ YOU HAVE BEEN AUTOMATICALLY FAILED\n\n" +
+        "  Classes held: {counted}\n" +
+        "  You attended: {attendance}\n" +
+        "  Unexcused absences: {unexcused}\n\n" +
+        "  Having 4 or more unexcused absences results in automatic failure.\n\n" +
+        "  Note: Excused absences do not count against you.\n" +
+        RULE);
+
+    // Reused across students
+    private final double[] values = new double[SLOT_COUNT];
+    private char[] buffer = new char[4096];
+    private int length;
+
+    /**
+     * Renders the report for one graded student into the internal buffer,
+     * replacing whatever was there. Returns the number of chars rendered.
+     */
+    int render(PrelimGradeCalculatorGUI.GradeResult grade) {
+        length = 0;
+        values[TOTAL_CLASSES] = PrelimGradeCalculatorGUI.TOTAL_CLASSES;
+        values[EXCUSED] = grade.excusedAbsences;
+        values[COUNTED] = grade.totalClassesThatCount;
+        values[ATTENDANCE] = grade.attendance;
+        values[UNEXCUSED] = grade.unexcusedAbsences;
+
+        if (grade.autoFailed) {
+            append(AUTO_FAIL);
+            return length;
+        }
+
+        values[ATTENDANCE_SCORE] = grade.attendanceScore;
+        values[LAB1] = grade.lab1;
+        values[LAB2] = grade.lab2;
+        values[LAB3] = grade.lab3;
+        values[LAB_AVERAGE] = grade.labWorkAverage;
+        values[CLASS_STANDING] = grade.classStanding;
+        values[REQUIRED_PASSING] = grade.requiredForPassing;
+        values[REQUIRED_EXCELLENT] = grade.requiredForExcellent;
+        values[LOCKED_IN] = grade.classStanding * 0.70;
+        values[POINTS_NEEDED] = PrelimGradeCalculatorGUI.PASSING_GRADE -
+                                (grade.classStanding * PrelimGradeCalculatorGUI.CLASS_STANDING_WEIGHT);
+
+        append(CURRENT_GRADES);
+
+        // Passing grade explanation
+        if (grade.requiredForPassing > 100) {
+            append(PASS_IMPOSSIBLE);
+            if (grade.attendanceScore < 80 && grade.labWorkAverage >= 90) {
+                append(ADVICE_ATTENDANCE);
+            } else if (grade.labWorkAverage < 80 && grade.attendanceScore >= 90) {
+                append(ADVICE_LAB_WORK);
+            } else if (grade.attendanceScore < 80 && grade.labWorkAverage < 80) {
+                append(ADVICE_BOTH);
+            } else {
+                append(ADVICE_GENERAL);
+            }
+        } else if (grade.requiredForPassing <= 0) {
+            append(PASS_GUARANTEED);
+        } else {
+            append(PASS_NEEDED);
+        }
+
+        // Excellent grade explanation
+        if (grade.requiredForExcellent > 100) {
+            append(EXCELLENT_IMPOSSIBLE);
+        } else if (grade.requiredForExcellent <= 0) {
+            append(EXCELLENT_GUARANTEED);
+        } else {
+            append(EXCELLENT_NEEDED);
+        }
+
+        append(HOW_IT_WORKS);
+        if (grade.requiredForPassing > 0 && grade.requiredForPassing <= 100) {
+            append(POINTS_BREAKDOWN);
+        }
+        append(FOOTER);
+        return length;
+    }
+
+    /**
+     * Renders a line for a roster row that failed validation.
+     */
+    int renderError(String message) {
+        length = 0;
+        appendChars("  Error: ");
+        appendChars(message.replace("\n", "\n         "));
+        appendChar('\n');
+        return length;
+    }
+
+    char[] buffer() {
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void writeTo(Writer writer) throws IOException {
+        writer.write(buffer, 0, length);
+    }
+
+    // ===========================================================================
+    // BUFFER WRITING
+    // ===========================================================================
+
+    private void append(Template template) {
+        for (int i = 0; i < template.literals.length; i++) {
+            appendChars(template.literals[i]);
+            if (i < template.slots.length) {
+                int slot = template.slots[i];
+                if (SLOT_IS_INTEGER[slot]) {
+                    appendLong((long) values[slot]);
+                } else {
+                    appendFixed2(values[slot]);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            char[] grown = new char[Math.max(buffer.length * 2, length + extra)];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+    }
+
+    private void appendChar(char c) {
+        ensureCapacity(1);
+        buffer[length++] = c;
+    }
+
+    private void appendChars(char[] chars) {
+        ensureCapacity(chars.length);
+        System.arraycopy(chars, 0, buffer, length, chars.length);
+        length += chars.length;
+    }
+
+    private void appendChars(String text) {
+        ensureCapacity(text.length());
+        text.getChars(0, text.length(), buffer, length);
+        length += text.length();
+    }
+
+    private void appendLong(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        // Write digits backwards, then reverse in place
+        int start = length;
+        do {
+            buffer[length++] = (char) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            char tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    /**
+     * Appends value rounded to two decimals exactly like "%.2f" in the root
+     * locale. String.format rounds the shortest decimal form of the double
+     * half-up, so values that land near a tie (e.g. 1.005) take that slower
+     * path; everything else is pure long arithmetic.
+     */
+    private void appendFixed2(double value) {
+        double magnitude = Math.abs(value) * 100.0;
+        long scaled = Math.round(magnitude);
+        if (Math.abs(magnitude - Math.floor(magnitude) - 0.5) < 1e-6) {
+            scaled = new BigDecimal(Double.toString(Math.abs(value))).movePointRight(2)
+                                                                  .setScale(0, RoundingMode.HALF_UP)
+                                                                  .longValue();
+        }
+        if (value < 0 && scaled != 0) {
+            appendChar('-');
+        }
+        appendLong(scaled / 100);
+        int cents = (int) (scaled % 100);
+        ensureCapacity(3);
+        buffer[length++] = '.';
+        buffer[length++] = (char) ('0' + cents / 10);
+        buffer[length++] = (char) ('0' + cents % 10);
+    }
+
+    // ===========================================================================
+    // BATCH MODE
+    // ===========================================================================
+
+    /**
+     * Renders a report for every student in the roster. With split set, output
+     * is a directory and each student gets their own file; otherwise all
+     * reports are streamed into one combined file. Returns the number of
+     * students rendered.
+     */
+    static int renderRoster(Path roster, Path output, boolean split) throws IOException {
+        GradeReportRenderer renderer = new GradeReportRenderer();
+        PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+        int count = 0;
+
+        if (split) {
+            Files.createDirectories(output);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(roster, StandardCharsets.UTF_8);
+             Writer combined = split ? null : Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (RosterRecord.isSkippable(line)) {
+                    continue;
+                }
+
+                String studentId;
+                String error;
+                RosterRecord record = null;
+                try {
+                    record = RosterRecord.parse(line);
+                    studentId = record.studentId;
+                    error = record.validate();
+                } catch (NumberFormatException e) {
+                    studentId = "line-" + lineNumber;
+                    error = e.getMessage();
+                }
+
+                if (error != null) {
+                    renderer.renderError(error);
+                } else {
+                    renderer.render(record.grade(grade));
+                }
+
+                if (split) {
+                    Path file = output.resolve(safeFileName(studentId) + ".txt");
+                    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                        renderer.writeTo(writer);
+                    }
+                } else {
+                    combined.write("Student: ");
+                    combined.write(studentId);
+                    if (record != null && !record.section.isEmpty()) {
+                        combined.write(" (");
+                        combined.write(record.section);
+                        combined.write(')');
+                    }
+                    combined.write("\n\n");
+                    renderer.writeTo(combined);
+                    combined.write('\n');
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String safeFileName(String studentId) {
+        return studentId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    /**
+     * A report text compiled into literal chunks with value slots between them.
+     * literals always has one more entry than slots.
+     */
+    private static final class Template {
+        final char[][] literals;
+        final int[] slots;
+
+        private Template(char[][] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        static Template compile(String text) {
+            List<char[]> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int pos = 0;
+            while (true) {
+                int open = text.indexOf('{', pos);
+                if (open < 0) {
+                    literals.add(text.substring(pos).toCharArray());
+                    break;
+                }
+                int close = text.indexOf('}', open);
+                literals.add(text.substring(pos, open).toCharArray());
+                slots.add(slotIndex(text.substring(open + 1, close)));
+                pos = close + 1;
+            }
+            int[] slotArray = new int[slots.size()];
+            for (int i = 0; i < slotArray.length; i++) {
+                slotArray[i] = slots.get(i);
+            }
+            return new Template(literals.toArray(new char[0][]), slotArray);
+        }
+
+        private static int slotIndex(String name) {
+            for (int i = 0; i < SLOT_NAMES.length; i++) {
+                if (SLOT_NAMES[i].equals(name)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Unknown report slot: " + name);
+        }
+    }
+}
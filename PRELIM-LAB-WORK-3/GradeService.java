@@ -0,0 +1,334 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prelim Grade Calculator - HTTP Service Version
+ * Runs the calculator's rules headless on the JDK HttpServer so the student
+ * portal can call it without Swing.
+ *
+ * Endpoints:
+ *   POST /grade   {"attendance":5,"excusedAbsences":0,"excuseVerified":false,
+ *                  "lab1":90,"lab2":85,"lab3":88}
+ *   GET  /health
+ *
+ * Invalid input gets HTTP 400 with {"error": "..."} carrying the exact
+ * message the GUI shows in its error dialog. Bodies over 64 KiB get 413.
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --serve 8080
+ */
+class GradeService {
+
+    private static final int BACKLOG = 16384;
+    static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final String TOO_LARGE =
+        "{\"error\":\"Request body must be at most " + MAX_BODY_BYTES + " bytes\"}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    GradeService(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        executor = createExecutor();
+        server.setExecutor(executor);
+        server.createContext("/grade", this::handleGrade);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Uses one virtual thread per request when the JDK has them (21+),
+     * otherwise a fixed pool sized for blocking socket I/O.
+     */
+    static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8);
+        }
+    }
+
+    // ===========================================================================
+    // HANDLERS
+    // ===========================================================================
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        sendJson(exchange, 200, "{\"status\":\"ok\"}");
+    }
+
+    private void handleGrade(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            sendJson(exchange, 405, "{\"error\":\"Use POST\"}");
+            return;
+        }
+
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (length != null && isTooLarge(length)) {
+            sendJson(exchange, 413, TOO_LARGE);
+            return;
+        }
+        byte[] bytes;
+        try (InputStream in = exchange.getRequestBody()) {
+            // One byte past the limit is enough to tell the body is too large
+            bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (bytes.length > MAX_BODY_BYTES) {
+            sendJson(exchange, 413, TOO_LARGE);
+            return;
+        }
+        String body = new String(bytes, StandardCharsets.UTF_8);
+
+        int status = 200;
+        String response;
+        try {
+            response = gradeJson(parseFlatJson(body));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and malformed JSON both land here
+            status = 400;
+            response = "{\"error\":" + quote(e.getMessage()) + "}";
+        }
+        sendJson(exchange, status, response);
+    }
+
+    private static boolean isTooLarge(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim()) > MAX_BODY_BYTES;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Grades one request. Throws IllegalArgumentException carrying the
+     * GUI's validation message when the input is rejected.
+     */
+    static String gradeJson(Map<String, String> fields) {
+        int attendance = parseInt(fields.get("attendance"));
+        int excusedAbsences = parseInt(fields.getOrDefault("excusedAbsences", "0"));
+        double lab1 = parseDouble(fields.get("lab1"));
+        double lab2 = parseDouble(fields.get("lab2"));
+        double lab3 = parseDouble(fields.get("lab3"));
+        boolean excuseVerified = Boolean.parseBoolean(fields.getOrDefault("excuseVerified", "false"));
+
+        String error = PrelimGradeCalculatorGUI.validateInputs(attendance, excusedAbsences, excuseVerified,
+                                                               lab1, lab2, lab3);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+
+        PrelimGradeCalculatorGUI.GradeResult grade =
+            new PrelimGradeCalculatorGUI.GradeResult().compute(attendance, excusedAbsences, lab1, lab2, lab3);
+
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"autoFailed\":").append(grade.autoFailed);
+        json.append(",\"totalClassesThatCount\":").append(grade.totalClassesThatCount);
+        json.append(",\"unexcusedAbsences\":").append(grade.unexcusedAbsences);
+        if (!grade.autoFailed) {
+            json.append(",\"attendanceScore\":").append(grade.attendanceScore);
+            json.append(",\"labWorkAverage\":").append(grade.labWorkAverage);
+            json.append(",\"classStanding\":").append(grade.classStanding);
+            json.append(",\"requiredForPassing\":").append(grade.requiredForPassing);
+            json.append(",\"requiredForExcellent\":").append(grade.requiredForExcellent);
+        }
+        json.append('}');
+        return json.toString();
+    }
+
+    private static int parseInt(String value) {
+        if (value == null) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+    }
+
+    private static double parseDouble(String value) {
+        if (value == null) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+        double number;
+        try {
+            number = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+        // NaN and Infinity are not JSON numbers and could not be written back out
+        if (!Double.isFinite(number)) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+        return number;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // ===========================================================================
+    // MINIMAL JSON
+    // ===========================================================================
+
+    /**
+     * Parses a flat JSON object of strings, numbers, booleans and nulls into
+     * raw string values. Nested objects and arrays, and anything after the
+     * closing brace, are rejected.
+     */
+    static Map<String, String> parseFlatJson(String json) {
+        Map<String, String> fields = new HashMap<>();
+        int[] pos = {skipSpace(json, 0)};
+        expect(json, pos, '{');
+        pos[0] = skipSpace(json, pos[0]);
+        if (peek(json, pos[0]) == '}') {
+            pos[0]++;
+            expectEnd(json, pos[0]);
+            return fields;
+        }
+        while (true) {
+            pos[0] = skipSpace(json, pos[0]);
+            String key = readString(json, pos);
+            pos[0] = skipSpace(json, pos[0]);
+            expect(json, pos, ':');
+            pos[0] = skipSpace(json, pos[0]);
+            String value;
+            if (peek(json, pos[0]) == '"') {
+                value = readString(json, pos);
+            } else {
+                int start = pos[0];
+                while (pos[0] < json.length() && ",} \t\r\n".indexOf(json.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                value = json.substring(start, pos[0]);
+                if (value.isEmpty() || value.charAt(0) == '{' || value.charAt(0) == '[') {
+                    throw new IllegalArgumentException("Malformed JSON request");
+                }
+                if (value.equals("null")) {
+                    value = null;
+                }
+            }
+            fields.put(key, value);
+            pos[0] = skipSpace(json, pos[0]);
+            char c = peek(json, pos[0]);
+            pos[0]++;
+            if (c == '}') {
+                expectEnd(json, pos[0]);
+                return fields;
+            }
+            if (c != ',') {
+                throw new IllegalArgumentException("Malformed JSON request");
+            }
+        }
+    }
+
+    private static String readString(String json, int[] pos) {
+        expect(json, pos, '"');
+        StringBuilder sb = new StringBuilder();
+        while (pos[0] < json.length()) {
+            char c = json.charAt(pos[0]++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\' && pos[0] < json.length()) {
+                char escaped = json.charAt(pos[0]++);
+                switch (escaped) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos[0] + 4 > json.length()) {
+                            throw new IllegalArgumentException("Malformed JSON request");
+                        }
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            char hex = json.charAt(pos[0]++);
+                            // ASCII only; Character.digit would also take other scripts' digits
+                            int digit = hex < 128 ? Character.digit(hex, 16) : -1;
+                            if (digit < 0) {
+                                throw new IllegalArgumentException("Malformed JSON request");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        sb.append((char) code);
+                        break;
+                    default: sb.append(escaped);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        throw new IllegalArgumentException("Malformed JSON request");
+    }
+
+    private static void expect(String json, int[] pos, char expected) {
+        if (peek(json, pos[0]) != expected) {
+            throw new IllegalArgumentException("Malformed JSON request");
+        }
+        pos[0]++;
+    }
+
+    private static void expectEnd(String json, int pos) {
+        if (skipSpace(json, pos) != json.length()) {
+            throw new IllegalArgumentException("Malformed JSON request");
+        }
+    }
+
+    private static char peek(String json, int pos) {
+        return pos < json.length() ? json.charAt(pos) : '\0';
+    }
+
+    private static int skipSpace(String json, int pos) {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
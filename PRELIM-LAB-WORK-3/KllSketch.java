@@ -0,0 +1,198 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * KLL quantile sketch (Karnin, Lang and Liberty).
+ * Summarizes a stream of doubles in O(k log(n/k)) space and answers
+ * quantile queries with rank error around 1/k. Two sketches built on
+ * different parts of a stream can be merged into one sketch of the whole
+ * stream, which is what lets sections be summarized in parallel.
+ *
+ * Items live in a stack of compactors. Level h items each stand for 2^h
+ * stream items. When a level is full it is sorted and every other item
+ * (starting at a random offset) is promoted to the level above.
+ */
+class KllSketch {
+
+    static final int DEFAULT_K = 200;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    // Sketches that are merged need independent coin flips, so each gets its own stream
+    private static final SplittableRandom SEEDS = new SplittableRandom();
+
+    private final int k;
+    private final SplittableRandom random;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int height = 1;
+    private int size;
+    private int maxSize;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    KllSketch() {
+        this(DEFAULT_K, splitSeeds());
+    }
+
+    /**
+     * A sketch with a fixed seed, for reproducible runs.
+     */
+    KllSketch(int k, long seed) {
+        this(k, new SplittableRandom(seed));
+    }
+
+    private KllSketch(int k, SplittableRandom random) {
+        this.k = k;
+        this.random = random;
+        levels[0] = new double[capacity(0)];
+        maxSize = totalCapacity();
+    }
+
+    private static SplittableRandom splitSeeds() {
+        synchronized (SEEDS) {
+            return SEEDS.split();
+        }
+    }
+
+    void add(double value) {
+        append(0, value);
+        size++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (size >= maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Folds another sketch into this one. The other sketch is not changed.
+     */
+    void merge(KllSketch other) {
+        while (height < other.height) {
+            grow();
+        }
+        for (int h = 0; h < other.height; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        size += other.size;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        while (size >= maxSize) {
+            compress();
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the value at rank fraction q (0 = min, 1 = max),
+     * or NaN when the sketch is empty.
+     */
+    double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        // Gather items with their weights and walk the cumulative weight
+        double[] values = new double[size];
+        long[] weights = new long[size];
+        int n = 0;
+        for (int h = 0; h < height; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                values[n] = levels[h][i];
+                weights[n] = 1L << h;
+                n++;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        long totalWeight = 0;
+        for (int i = 0; i < n; i++) {
+            totalWeight += weights[i];
+        }
+        double target = q * totalWeight;
+        long seen = 0;
+        for (int i = 0; i < n; i++) {
+            seen += weights[order[i]];
+            if (seen >= target) {
+                return values[order[i]];
+            }
+        }
+        return max;
+    }
+
+    // ===========================================================================
+    // COMPACTION
+    // ===========================================================================
+
+    private int capacity(int level) {
+        int depth = height - level - 1;
+        return (int) Math.ceil(Math.pow(CAPACITY_DECAY, depth) * k) + 1;
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int h = 0; h < height; h++) {
+            total += capacity(h);
+        }
+        return total;
+    }
+
+    private void grow() {
+        levels = Arrays.copyOf(levels, height + 1);
+        sizes = Arrays.copyOf(sizes, height + 1);
+        levels[height] = new double[capacity(0)];
+        height++;
+        maxSize = totalCapacity();
+    }
+
+    private void append(int level, double value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(4, levels[level].length * 2));
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    /**
+     * Compacts the lowest level that is over capacity into the one above.
+     */
+    private void compress() {
+        for (int h = 0; h < height; h++) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 >= height) {
+                    grow();
+                }
+                double[] items = levels[h];
+                int n = sizes[h];
+                Arrays.sort(items, 0, n);
+
+                // With an odd count the smallest item stays behind at this level
+                int kept = n % 2;
+                int offset = random.nextBoolean() ? 1 : 0;
+                for (int i = kept + offset; i < n; i += 2) {
+                    append(h + 1, items[i]);
+                }
+                sizes[h] = kept;
+                size -= (n - kept) / 2;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Pass Probability Simulator
+ * Estimates how likely a student is to pass instead of only saying which
+ * exam score they need. Each trial draws a Prelim Exam score, and a score
+ * for every lab that is not graded yet, then applies the usual formula:
+ *
+ *   Prelim Grade = (Prelim Exam × 0.30) + (Class Standing × 0.70)
+ *
+ * Exam scores follow a normal distribution around the expected score,
+ * clipped to 0-100. Ungraded labs follow a normal distribution around the
+ * average of the graded labs (or the expected exam score if none are
+ * graded yet), with the same spread.
+ *
+ * Trials are split into chunks that each get their own SplittableRandom,
+ * split from one seed, and run in parallel on the common pool.
+ */
+class PassProbabilitySimulator {
+
+    static final int DEFAULT_TRIALS = 2_000_000;
+    static final double DEFAULT_SPREAD = 10.0;
+
+    // Final grade histogram: one bucket per whole grade, 0-100
+    static final int BUCKETS = 101;
+
+    private static final int CHUNKS_PER_CORE = 4;
+
+    // Trials between cancellation checks
+    private static final int CANCEL_CHECK_MASK = (1 << 16) - 1;
+
+    /**
+     * Simulation summary. histogram[g] counts trials whose final grade
+     * rounded down to g.
+     */
+    static final class Result {
+        final long[] histogram = new long[BUCKETS];
+        long trials, passed, excellent;
+        double gradeSum;
+        long elapsedNanos;
+
+        double passProbability() {
+            return trials == 0 ? 0 : (double) passed / trials;
+        }
+
+        double excellentProbability() {
+            return trials == 0 ? 0 : (double) excellent / trials;
+        }
+
+        double meanGrade() {
+            return trials == 0 ? 0 : gradeSum / trials;
+        }
+
+        /**
+         * Smallest whole grade with at least fraction p of trials at or below it.
+         */
+        int gradePercentile(double p) {
+            long target = (long) Math.ceil(p * trials);
+            long seen = 0;
+            for (int g = 0; g < BUCKETS; g++) {
+                seen += histogram[g];
+                if (seen >= target && seen > 0) {
+                    return g;
+                }
+            }
+            return BUCKETS - 1;
+        }
+
+        void merge(Result other) {
+            for (int g = 0; g < BUCKETS; g++) {
+                histogram[g] += other.histogram[g];
+            }
+            trials += other.trials;
+            passed += other.passed;
+            excellent += other.excellent;
+            gradeSum += other.gradeSum;
+        }
+    }
+
+    /**
+     * Runs the simulation. labs holds the three lab grades, with NaN for labs
+     * that are not graded yet. Inputs must already have passed
+     * PrelimGradeCalculatorGUI.validateInputs.
+     */
+    static Result simulate(int attendance, int excusedAbsences, double[] labs,
+                           double expectedExam, double spread, int trials, long seed) {
+        return simulate(attendance, excusedAbsences, labs, expectedExam, spread, trials, seed, () -> false);
+    }
+
+    /**
+     * Same as above, but gives up and returns null as soon as cancelled
+     * reports true. Used by live recalculation to drop stale runs.
+     */
+    static Result simulate(int attendance, int excusedAbsences, double[] labs,
+                           double expectedExam, double spread, int trials, long seed,
+                           BooleanSupplier cancelled) {
+        long start = System.nanoTime();
+        Result total = new Result();
+
+        // An automatic failure cannot be rescued by any exam score
+        PrelimGradeCalculatorGUI.GradeResult base = new PrelimGradeCalculatorGUI.GradeResult()
+            .compute(attendance, excusedAbsences, 0, 0, 0);
+        if (base.autoFailed) {
+            total.trials = trials;
+            total.histogram[0] = trials;
+            total.elapsedNanos = System.nanoTime() - start;
+            return total;
+        }
+
+        // Fixed parts of Class Standing
+        double gradedLabSum = 0;
+        int gradedLabs = 0;
+        for (double lab : labs) {
+            if (!Double.isNaN(lab)) {
+                gradedLabSum += lab;
+                gradedLabs++;
+            }
+        }
+        int remainingLabs = labs.length - gradedLabs;
+        double labMean = gradedLabs > 0 ? gradedLabSum / gradedLabs : expectedExam;
+        double attendancePart = base.attendanceScore * PrelimGradeCalculatorGUI.ATTENDANCE_WEIGHT;
+
+        int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() * CHUNKS_PER_CORE);
+        chunks = Math.min(chunks, Math.max(1, trials));
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < chunks; i++) {
+            randoms[i] = root.split();
+        }
+
+        int perChunk = trials / chunks;
+        int leftover = trials % chunks;
+        double labSumFixed = gradedLabSum;
+
+        Result merged = IntStream.range(0, chunks).parallel()
+            .mapToObj(i -> runChunk(randoms[i], perChunk + (i < leftover ? 1 : 0),
+                                    attendancePart, labSumFixed, remainingLabs, labMean,
+                                    expectedExam, spread, cancelled))
+            .reduce(new Result(), (a, b) -> {
+                Result r = new Result();
+                r.merge(a);
+                r.merge(b);
+                return r;
+            });
+
+        if (cancelled.getAsBoolean()) {
+            return null;
+        }
+        total.merge(merged);
+        total.elapsedNanos = System.nanoTime() - start;
+        return total;
+    }
+
+    private static Result runChunk(SplittableRandom random, int trials, double attendancePart,
+                                   double gradedLabSum, int remainingLabs, double labMean,
+                                   double expectedExam, double spread, BooleanSupplier cancelled) {
+        Result result = new Result();
+        long[] histogram = result.histogram;
+        long passed = 0, excellent = 0;
+        double gradeSum = 0;
+
+        for (int t = 0; t < trials; t++) {
+            if ((t & CANCEL_CHECK_MASK) == 0 && cancelled.getAsBoolean()) {
+                break;
+            }
+            double labSum = gradedLabSum;
+            for (int l = 0; l < remainingLabs; l++) {
+                labSum += clip(labMean + random.nextGaussian() * spread);
+            }
+            double classStanding = attendancePart + (labSum / 3.0) * PrelimGradeCalculatorGUI.LAB_WORK_WEIGHT;
+            double exam = clip(expectedExam + random.nextGaussian() * spread);
+            double grade = exam * PrelimGradeCalculatorGUI.PRELIM_EXAM_WEIGHT +
+                           classStanding * PrelimGradeCalculatorGUI.CLASS_STANDING_WEIGHT;
+
+            if (grade >= PrelimGradeCalculatorGUI.PASSING_GRADE) {
+                passed++;
+            }
+            if (grade >= PrelimGradeCalculatorGUI.EXCELLENT_GRADE) {
+                excellent++;
+            }
+            gradeSum += grade;
+            histogram[Math.min(BUCKETS - 1, Math.max(0, (int) grade))]++;
+        }
+
+        result.trials = trials;
+        result.passed = passed;
+        result.excellent = excellent;
+        result.gradeSum = gradeSum;
+        return result;
+    }
+
+    private static double clip(double score) {
+        return score < 0 ? 0 : (score > 100 ? 100 : score);
+    }
+
+    /**
+     * The results-panel section for a student who is already automatically
+     * failed, in place of a simulation whose outcome is fixed.
+     */
+    static String formatAutoFailed(PrelimGradeCalculatorGUI.GradeResult grade) {
+        return "═══════════════════════════════════════════════════════════\n" +
+               "                   PASS PROBABILITY\n" +
+               "═══════════════════════════════════════════════════════════\n\n" +
+               String.format("  ❌ Already automatically failed (%d unexcused absences).%n", grade.unexcusedAbsences) +
+               "  No Prelim Exam score can change that, so nothing was simulated.\n\n" +
+               "═══════════════════════════════════════════════════════════\n";
+    }
+
+    /**
+     * Formats the result for the GUI's results panel.
+     */
+    static String format(Result result, double expectedExam, double spread, int remainingLabs) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("═══════════════════════════════════════════════════════════\n");
+        sb.append("                   PASS PROBABILITY\n");
+        sb.append("═══════════════════════════════════════════════════════════\n\n");
+        sb.append(String.format("  Expected Prelim Exam:  %.2f ± %.2f%n", expectedExam, spread));
+        sb.append(String.format("  Ungraded labs:         %d%n", remainingLabs));
+        sb.append(String.format("  Trials:                %,d (%.0f ms)%n%n",
+                                result.trials, result.elapsedNanos / 1e6));
+        sb.append(String.format("  Chance to pass (75):       %6.2f%%%n", result.passProbability() * 100));
+        sb.append(String.format("  Chance of excellent (100): %6.2f%%%n", result.excellentProbability() * 100));
+        sb.append(String.format("  Expected final grade:      %6.2f%n", result.meanGrade()));
+        sb.append(String.format("  Likely range (10%%-90%%):    %d to %d%n%n",
+                                result.gradePercentile(0.10), result.gradePercentile(0.90)));
+
+        sb.append("  Final grade distribution:\n");
+        // <50, then 5-point bins up to 100
+        long[] bins = new long[11];
+        for (int g = 0; g < BUCKETS; g++) {
+            int bin = g < 50 ? 0 : Math.min(10, (g - 50) / 5 + 1);
+            bins[bin] += result.histogram[g];
+        }
+        long max = 1;
+        for (long count : bins) {
+            max = Math.max(max, count);
+        }
+        for (int b = 0; b < bins.length; b++) {
+            String label = b == 0 ? "<50" : (50 + (b - 1) * 5) + "-" + (b == 10 ? 100 : 50 + (b - 1) * 5 + 4);
+            int bar = (int) Math.round(30.0 * bins[b] / max);
+            sb.append(String.format("  %6s │%-30s %5.1f%%%n", label, "█".repeat(bar),
+                                    result.trials == 0 ? 0.0 : 100.0 * bins[b] / result.trials));
+        }
+        sb.append("\n═══════════════════════════════════════════════════════════\n");
+        return sb.toString();
+    }
+}
@@ -1,6 +1,19 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultCaret;
 
 /**
  * Prelim Grade Calculator - GUI Version
@@ -11,17 +24,23 @@ import java.awt.event.*;
  * - Prelim Grade = (Prelim Exam × 0.30) + (Class Standing × 0.70)
  * - Class Standing = (Attendance × 0.40) + (Lab Work Average × 0.60)
  * - Lab Work Average = (Lab1 + Lab2 + Lab3) / 3
+ * 
+ * Fast start on lab machines: run StartupBenchmark --generate-cds . PrelimGradeCalculatorGUI
+ * once after compiling, then start with
+ *   java -XX:SharedArchiveFile=PrelimGradeCalculatorGUI.jsa -cp PrelimGradeCalculatorGUI.jar
+ *        PrelimGradeCalculatorGUI --fast-start
  */
 public class PrelimGradeCalculatorGUI extends JFrame {
     
     // Constants for grading weights
-    private static final double PRELIM_EXAM_WEIGHT = 0.30;
-    private static final double CLASS_STANDING_WEIGHT = 0.70;
-    private static final double ATTENDANCE_WEIGHT = 0.40;
-    private static final double LAB_WORK_WEIGHT = 0.60;
-    private static final double PASSING_GRADE = 75.0;
-    private static final double EXCELLENT_GRADE = 100.0;
-    private static final int TOTAL_CLASSES = 5;
+    static final double PRELIM_EXAM_WEIGHT = 0.30;
+    static final double CLASS_STANDING_WEIGHT = 0.70;
+    static final double ATTENDANCE_WEIGHT = 0.40;
+    static final double LAB_WORK_WEIGHT = 0.60;
+    static final double PASSING_GRADE = 75.0;
+    static final double EXCELLENT_GRADE = 100.0;
+    static final int TOTAL_CLASSES = 5;
+    static final String INVALID_NUMBER_MESSAGE = "Please enter valid numbers in all fields";
     
     // GUI Components
     private JTextField attendanceField;
@@ -30,13 +49,44 @@ public class PrelimGradeCalculatorGUI extends JFrame {
     private JTextField lab1Field;
     private JTextField lab2Field;
     private JTextField lab3Field;
+    private JTextField expectedExamField;
+    private JTextField spreadField;
     private JTextArea resultArea;
     private JButton calculateButton;
+    private JButton simulateButton;
+    private JButton projectButton;
     private JButton resetButton;
     
+    // Live recalculation: fields restart the debounce timer, the timer starts
+    // a background worker, and only the newest worker may touch the results
+    private static final int LIVE_DELAY_MS = 250;
+    private static final int REPORT_SLOT = 0;
+    private static final int SIMULATION_SLOT = 1;
+    private static final int PROJECTION_SLOT = 2;
+    private final javax.swing.Timer liveTimer = new javax.swing.Timer(LIVE_DELAY_MS, e -> startLiveRecalculation());
+    private volatile long liveGeneration;
+    private SwingWorker<String[], Void> liveWorker;
+    private final String[] slotTexts = {"", "", ""};
+    // Midterm/Finals inputs from the last projection, kept for live updates
+    private TermProjection.Request projectionTerms;
+    private final List<String> shownSections = new ArrayList<>();
+    
+    // Startup
+    private final boolean fastStart;
+    private static final Map<Integer, Font> UI_FONTS = new HashMap<>();
+    
     public PrelimGradeCalculatorGUI() {
+        this(false);
+    }
+    
+    /**
+     * In fast-start mode live recalculation is wired up only after the
+     * first frame has painted.
+     */
+    public PrelimGradeCalculatorGUI(boolean fastStart) {
+        this.fastStart = fastStart;
         setTitle("Prelim Grade Calculator");
-        setSize(600, 700);
+        setSize(600, 790);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
         setResizable(false);
@@ -67,6 +117,19 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         mainPanel.add(resultPanel);
         
         add(mainPanel);
+        
+        if (!fastStart) {
+            installLiveRecalculation();
+        }
+        onFirstFrame(this, this::finishStartup);
+    }
+    
+    private void finishStartup() {
+        traceStartup("first-frame");
+        if (fastStart) {
+            installLiveRecalculation();
+        }
+        traceStartup("interactive");
     }
     
     private JPanel createHeaderPanel() {
@@ -76,12 +139,12 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
         
         JLabel titleLabel = new JLabel("Prelim Grade Calculator");
-        titleLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        titleLabel.setFont(uiFont(Font.BOLD, 24));
         titleLabel.setForeground(Color.WHITE);
         titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
         JLabel subtitleLabel = new JLabel("Calculate your required Prelim Exam score");
-        subtitleLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+        subtitleLabel.setFont(uiFont(Font.PLAIN, 14));
         subtitleLabel.setForeground(Color.WHITE);
         subtitleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
@@ -101,7 +164,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             "Input Information",
             0,
             0,
-            new Font("Arial", Font.BOLD, 14),
+            uiFont(Font.BOLD, 14),
             new Color(55, 65, 81)
         ));
         panel.setBorder(BorderFactory.createCompoundBorder(
@@ -111,38 +174,50 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         
         // Grid panel for main inputs
         JPanel gridPanel = new JPanel();
-        gridPanel.setLayout(new GridLayout(5, 2, 10, 15));
+        gridPanel.setLayout(new GridLayout(7, 2, 10, 15));
         gridPanel.setBackground(Color.WHITE);
         
         // Attendance
         JLabel attendanceLabel = new JLabel("Number of Attendances (0-5):");
-        attendanceLabel.setFont(new Font("Arial", Font.PLAIN, 13));
+        attendanceLabel.setFont(uiFont(Font.PLAIN, 13));
         attendanceField = new JTextField();
-        attendanceField.setFont(new Font("Arial", Font.PLAIN, 13));
+        attendanceField.setFont(uiFont(Font.PLAIN, 13));
         
         // Excused Absences
         JLabel excusedLabel = new JLabel("Excused Absences (0-5):");
-        excusedLabel.setFont(new Font("Arial", Font.PLAIN, 13));
+        excusedLabel.setFont(uiFont(Font.PLAIN, 13));
         excusedAbsencesField = new JTextField("0");
-        excusedAbsencesField.setFont(new Font("Arial", Font.PLAIN, 13));
+        excusedAbsencesField.setFont(uiFont(Font.PLAIN, 13));
         
         // Lab 1
         JLabel lab1Label = new JLabel("Lab Work 1 Grade (0-100):");
-        lab1Label.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab1Label.setFont(uiFont(Font.PLAIN, 13));
         lab1Field = new JTextField();
-        lab1Field.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab1Field.setFont(uiFont(Font.PLAIN, 13));
         
         // Lab 2
         JLabel lab2Label = new JLabel("Lab Work 2 Grade (0-100):");
-        lab2Label.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab2Label.setFont(uiFont(Font.PLAIN, 13));
         lab2Field = new JTextField();
-        lab2Field.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab2Field.setFont(uiFont(Font.PLAIN, 13));
         
         // Lab 3
         JLabel lab3Label = new JLabel("Lab Work 3 Grade (0-100):");
-        lab3Label.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab3Label.setFont(uiFont(Font.PLAIN, 13));
         lab3Field = new JTextField();
-        lab3Field.setFont(new Font("Arial", Font.PLAIN, 13));
+        lab3Field.setFont(uiFont(Font.PLAIN, 13));
+        
+        // Expected Prelim Exam score (for Simulate)
+        JLabel expectedLabel = new JLabel("Expected Prelim Score (Simulate):");
+        expectedLabel.setFont(uiFont(Font.PLAIN, 13));
+        expectedExamField = new JTextField();
+        expectedExamField.setFont(uiFont(Font.PLAIN, 13));
+        
+        // Spread of likely scores (for Simulate)
+        JLabel spreadLabel = new JLabel("Score Spread ± (Simulate):");
+        spreadLabel.setFont(uiFont(Font.PLAIN, 13));
+        spreadField = new JTextField(String.valueOf((int) PassProbabilitySimulator.DEFAULT_SPREAD));
+        spreadField.setFont(uiFont(Font.PLAIN, 13));
         
         gridPanel.add(attendanceLabel);
         gridPanel.add(attendanceField);
@@ -154,6 +229,10 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         gridPanel.add(lab2Field);
         gridPanel.add(lab3Label);
         gridPanel.add(lab3Field);
+        gridPanel.add(expectedLabel);
+        gridPanel.add(expectedExamField);
+        gridPanel.add(spreadLabel);
+        gridPanel.add(spreadField);
         
         // Verification checkbox
         JPanel checkboxPanel = new JPanel();
@@ -168,7 +247,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             "<html><b>✓ Excused absences verified by Sir Val</b><br>" +
             "<small>(Required if you have excused absences)</small></html>"
         );
-        excuseVerifiedCheckbox.setFont(new Font("Arial", Font.PLAIN, 12));
+        excuseVerifiedCheckbox.setFont(uiFont(Font.PLAIN, 12));
         excuseVerifiedCheckbox.setBackground(new Color(249, 250, 251));
         excuseVerifiedCheckbox.setEnabled(false);
         
@@ -202,26 +281,50 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         panel.setBackground(Color.WHITE);
         
         calculateButton = new JButton("Calculate");
-        calculateButton.setFont(new Font("Arial", Font.BOLD, 14));
+        calculateButton.setFont(uiFont(Font.BOLD, 14));
         calculateButton.setBackground(new Color(37, 99, 235));
         calculateButton.setForeground(Color.WHITE);
         calculateButton.setFocusPainted(false);
         calculateButton.setBorderPainted(false);
-        calculateButton.setPreferredSize(new Dimension(150, 40));
+        calculateButton.setPreferredSize(new Dimension(125, 40));
         calculateButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
         calculateButton.addActionListener(e -> calculateGrade());
         
+        simulateButton = new JButton("Simulate");
+        simulateButton.setFont(uiFont(Font.BOLD, 14));
+        simulateButton.setBackground(new Color(16, 185, 129));
+        simulateButton.setForeground(Color.WHITE);
+        simulateButton.setFocusPainted(false);
+        simulateButton.setBorderPainted(false);
+        simulateButton.setPreferredSize(new Dimension(125, 40));
+        simulateButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        simulateButton.setToolTipText("Chance of passing; leave a lab blank if it is not graded yet");
+        simulateButton.addActionListener(e -> simulatePassProbability());
+        
+        projectButton = new JButton("Project");
+        projectButton.setFont(uiFont(Font.BOLD, 14));
+        projectButton.setBackground(new Color(124, 58, 237));
+        projectButton.setForeground(Color.WHITE);
+        projectButton.setFocusPainted(false);
+        projectButton.setBorderPainted(false);
+        projectButton.setPreferredSize(new Dimension(125, 40));
+        projectButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        projectButton.setToolTipText("Plan the Prelim, Midterm and Finals exams together");
+        projectButton.addActionListener(e -> projectTerms());
+        
         resetButton = new JButton("Reset");
-        resetButton.setFont(new Font("Arial", Font.BOLD, 14));
+        resetButton.setFont(uiFont(Font.BOLD, 14));
         resetButton.setBackground(new Color(243, 244, 246));
         resetButton.setForeground(new Color(55, 65, 81));
         resetButton.setFocusPainted(false);
         resetButton.setBorderPainted(false);
-        resetButton.setPreferredSize(new Dimension(150, 40));
+        resetButton.setPreferredSize(new Dimension(125, 40));
         resetButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
         resetButton.addActionListener(e -> resetForm());
         
         panel.add(calculateButton);
+        panel.add(simulateButton);
+        panel.add(projectButton);
         panel.add(resetButton);
         
         return panel;
@@ -236,7 +339,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             "Results",
             0,
             0,
-            new Font("Arial", Font.BOLD, 14),
+            uiFont(Font.BOLD, 14),
             new Color(55, 65, 81)
         ));
         
@@ -245,6 +348,8 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         resultArea.setEditable(false);
         resultArea.setBackground(new Color(249, 250, 251));
         resultArea.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        // Live updates replace parts of the text; keep the reader's scroll position
+        ((DefaultCaret) resultArea.getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
         
         JScrollPane scrollPane = new JScrollPane(resultArea);
         scrollPane.setPreferredSize(new Dimension(540, 250));
@@ -255,6 +360,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
     }
     
     private void calculateGrade() {
+        startManualAction();
         try {
             // Get and validate inputs
             int attendance = Integer.parseInt(attendanceField.getText().trim());
@@ -263,79 +369,205 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             double lab2 = Double.parseDouble(lab2Field.getText().trim());
             double lab3 = Double.parseDouble(lab3Field.getText().trim());
             
-            // Validate ranges
-            if (attendance < 0 || attendance > TOTAL_CLASSES) {
-                showError("Attendance must be between 0 and " + TOTAL_CLASSES);
+            String error = validateInputs(attendance, excusedAbsences, excuseVerifiedCheckbox.isSelected(),
+                                          lab1, lab2, lab3);
+            if (error != null) {
+                showError(error);
                 return;
             }
             
-            if (excusedAbsences < 0 || excusedAbsences > TOTAL_CLASSES) {
-                showError("Excused absences must be between 0 and " + TOTAL_CLASSES);
-                return;
-            }
+            GradeResult grade = new GradeResult().compute(attendance, excusedAbsences, lab1, lab2, lab3);
             
-            if (attendance + excusedAbsences > TOTAL_CLASSES) {
-                showError("Total attendance + excused absences cannot exceed " + TOTAL_CLASSES);
+            // Check if student has too many unexcused absences (4 or more)
+            if (grade.autoFailed) {
+                showSlot(REPORT_SLOT, buildAutoFailText(grade));
+                resultArea.setCaretPosition(0);
                 return;
             }
             
-            // Check if excused absences need verification
-            if (excusedAbsences > 0 && !excuseVerifiedCheckbox.isSelected()) {
-                showError("You must confirm that excused absences are verified by Sir Val.\n" +
-                         "Please check the verification box if your excuse letter has been approved.");
-                return;
-            }
+            // Display results
+            displayResults(attendance, excusedAbsences, grade.totalClassesThatCount, grade.attendanceScore, 
+                          lab1, lab2, lab3, grade.labWorkAverage, grade.classStanding, 
+                          grade.requiredForPassing, grade.requiredForExcellent);
             
-            if (lab1 < 0 || lab1 > 100 || lab2 < 0 || lab2 > 100 || lab3 < 0 || lab3 > 100) {
-                showError("Lab grades must be between 0 and 100");
-                return;
+        } catch (NumberFormatException ex) {
+            showError(INVALID_NUMBER_MESSAGE);
+        }
+    }
+    
+    /**
+     * Runs the pass-probability simulation. Blank lab fields are treated as
+     * labs that are not graded yet and are simulated too.
+     */
+    private void simulatePassProbability() {
+        SimulationRequest request;
+        try {
+            request = SimulationRequest.parse(FormInputs.capture(this));
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getMessage());
+            return;
+        }
+        
+        long generation = startManualAction();
+        simulateButton.setEnabled(false);
+        new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() {
+                return request.run(() -> false);
             }
             
-            // Calculate total classes that count (excused absences don't count against you)
-            int totalClassesThatCount = TOTAL_CLASSES - excusedAbsences;
-            int unexcusedAbsences = totalClassesThatCount - attendance;
-            
-            // Check if student has too many unexcused absences (4 or more)
-            if (unexcusedAbsences >= 4) {
-                resultArea.setText("═══════════════════════════════════════════════════════════\n" +
-                                 "                  AUTOMATIC FAILURE\n" +
-                                 "═══════════════════════════════════════════════════════════\n\n" +
-                                 "  ❌ YOU HAVE BEEN AUTOMATICALLY FAILED\n\n" +
-                                 String.format("  Classes held: %d%n", totalClassesThatCount) +
-                                 String.format("  You attended: %d%n", attendance) +
-                                 String.format("  Unexcused absences: %d%n%n", unexcusedAbsences) +
-                                 "  Having 4 or more unexcused absences results in automatic failure.\n\n" +
-                                 "  Note: Excused absences do not count against you.\n" +
-                                 "═══════════════════════════════════════════════════════════\n");
+            @Override
+            protected void done() {
+                simulateButton.setEnabled(true);
+                // A newer live result, manual action or reset has taken over since this started
+                if (generation != liveGeneration) {
+                    return;
+                }
+                try {
+                    showSlot(SIMULATION_SLOT, get());
+                } catch (InterruptedException | ExecutionException ex) {
+                    showError("Simulation failed: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Asks for the Midterm and Finals details and shows the lowest exam
+     * scores across all remaining terms that reach the target grade. The
+     * Prelim class standing comes from the form.
+     */
+    private void projectTerms() {
+        startManualAction();
+        GradeResult grade;
+        try {
+            int attendance = Integer.parseInt(attendanceField.getText().trim());
+            int excusedAbsences = Integer.parseInt(excusedAbsencesField.getText().trim());
+            double lab1 = Double.parseDouble(lab1Field.getText().trim());
+            double lab2 = Double.parseDouble(lab2Field.getText().trim());
+            double lab3 = Double.parseDouble(lab3Field.getText().trim());
+            String error = validateInputs(attendance, excusedAbsences, excuseVerifiedCheckbox.isSelected(),
+                                          lab1, lab2, lab3);
+            if (error != null) {
+                showError(error);
                 return;
             }
-            
-            // Calculate attendance score (based on classes that count)
-            double attendanceScore = totalClassesThatCount > 0 ? 
-                                    (double) attendance / totalClassesThatCount * 100 : 100.0;
-            
-            // Calculate Lab Work Average
-            double labWorkAverage = (lab1 + lab2 + lab3) / 3.0;
-            
-            // Calculate Class Standing
-            double classStanding = (attendanceScore * ATTENDANCE_WEIGHT) + 
-                                  (labWorkAverage * LAB_WORK_WEIGHT);
-            
-            // Calculate required Prelim Exam scores
-            double requiredForPassing = computeRequiredPrelimScore(classStanding, PASSING_GRADE);
-            double requiredForExcellent = computeRequiredPrelimScore(classStanding, EXCELLENT_GRADE);
-            
-            // Display results
-            displayResults(attendance, excusedAbsences, totalClassesThatCount, attendanceScore, 
-                          lab1, lab2, lab3, labWorkAverage, classStanding, 
-                          requiredForPassing, requiredForExcellent);
-            
+            grade = new GradeResult().compute(attendance, excusedAbsences, lab1, lab2, lab3);
+        } catch (NumberFormatException ex) {
+            showError(INVALID_NUMBER_MESSAGE);
+            return;
+        }
+        if (grade.autoFailed) {
+            showSlot(REPORT_SLOT, buildAutoFailText(grade));
+            return;
+        }
+        
+        TermProjection.Request previous = projectionTerms != null ? projectionTerms : new TermProjection.Request();
+        JTextField prelimExamField = projectionField(previous.examScores[0]);
+        JTextField midtermExamField = projectionField(previous.examScores[1]);
+        JTextField midtermStandingField = projectionField(previous.classStanding[1]);
+        JTextField finalsExamField = projectionField(previous.examScores[2]);
+        JTextField finalsStandingField = projectionField(previous.classStanding[2]);
+        JTextField targetField = projectionField(previous.target);
+        
+        JPanel form = new JPanel(new GridLayout(6, 2, 10, 10));
+        form.add(new JLabel("Prelim Exam Score (blank if not taken):"));
+        form.add(prelimExamField);
+        form.add(new JLabel("Midterm Exam Score (blank if not taken):"));
+        form.add(midtermExamField);
+        form.add(new JLabel("Midterm Class Standing (blank = Prelim's):"));
+        form.add(midtermStandingField);
+        form.add(new JLabel("Finals Exam Score (blank if not taken):"));
+        form.add(finalsExamField);
+        form.add(new JLabel("Finals Class Standing (blank = Prelim's):"));
+        form.add(finalsStandingField);
+        form.add(new JLabel("Target Final Grade:"));
+        form.add(targetField);
+        
+        if (JOptionPane.showConfirmDialog(this, form, "Multi-Term Projection", JOptionPane.OK_CANCEL_OPTION,
+                                          JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        
+        TermProjection.Request terms = new TermProjection.Request();
+        try {
+            terms.examScores[0] = parseOptional(prelimExamField.getText());
+            terms.examScores[1] = parseOptional(midtermExamField.getText());
+            terms.classStanding[1] = parseOptional(midtermStandingField.getText());
+            terms.examScores[2] = parseOptional(finalsExamField.getText());
+            terms.classStanding[2] = parseOptional(finalsStandingField.getText());
+            String target = targetField.getText().trim();
+            terms.target = target.isEmpty() ? PASSING_GRADE : Double.parseDouble(target);
+            showSlot(PROJECTION_SLOT, TermProjection.project(terms, grade.classStanding));
         } catch (NumberFormatException ex) {
-            showError("Please enter valid numbers in all fields");
+            showError(INVALID_NUMBER_MESSAGE);
+            return;
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getMessage());
+            return;
         }
+        projectionTerms = terms;
+    }
+    
+    private static JTextField projectionField(double value) {
+        JTextField field = new JTextField(Double.isNaN(value) ? "" :
+            value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value));
+        field.setFont(uiFont(Font.PLAIN, 13));
+        return field;
+    }
+    
+    /**
+     * Parses a number field where blank means "not known yet" (NaN).
+     */
+    private static double parseOptional(String text) {
+        text = text.trim();
+        return text.isEmpty() ? Double.NaN : Double.parseDouble(text);
     }
     
-    private double computeRequiredPrelimScore(double classStanding, double targetGrade) {
+    static String validateSimulationInputs(double expectedExam, double spread) {
+        if (expectedExam < 0 || expectedExam > 100) {
+            return "Expected Prelim score must be between 0 and 100";
+        }
+        if (spread < 0 || spread > 100) {
+            return "Score spread must be between 0 and 100";
+        }
+        return null;
+    }
+    
+    /**
+     * Checks the parsed inputs against the grading rules.
+     * Returns the message to show the student, or null when the inputs are valid.
+     */
+    static String validateInputs(int attendance, int excusedAbsences, boolean excuseVerified,
+                                 double lab1, double lab2, double lab3) {
+        // Validate ranges
+        if (attendance < 0 || attendance > TOTAL_CLASSES) {
+            return "Attendance must be between 0 and " + TOTAL_CLASSES;
+        }
+        
+        if (excusedAbsences < 0 || excusedAbsences > TOTAL_CLASSES) {
+            return "Excused absences must be between 0 and " + TOTAL_CLASSES;
+        }
+        
+        if (attendance + excusedAbsences > TOTAL_CLASSES) {
+            return "Total attendance + excused absences cannot exceed " + TOTAL_CLASSES;
+        }
+        
+        // Check if excused absences need verification
+        if (excusedAbsences > 0 && !excuseVerified) {
+            return "You must confirm that excused absences are verified by Sir Val.\n" +
+                   "Please check the verification box if your excuse letter has been approved.";
+        }
+        
+        // Written as "not in range" so NaN is rejected too
+        if (!(lab1 >= 0 && lab1 <= 100) || !(lab2 >= 0 && lab2 <= 100) || !(lab3 >= 0 && lab3 <= 100)) {
+            return "Lab grades must be between 0 and 100";
+        }
+        
+        return null;
+    }
+    
+    static double computeRequiredPrelimScore(double classStanding, double targetGrade) {
         return (targetGrade - (classStanding * CLASS_STANDING_WEIGHT)) / PRELIM_EXAM_WEIGHT;
     }
     
@@ -343,6 +575,29 @@ public class PrelimGradeCalculatorGUI extends JFrame {
                                double attendanceScore, double lab1, double lab2, double lab3,
                                double labWorkAverage, double classStanding,
                                double requiredForPassing, double requiredForExcellent) {
+        showSlot(REPORT_SLOT, buildResultText(attendance, excusedAbsences, totalClassesThatCount, attendanceScore,
+                                              lab1, lab2, lab3, labWorkAverage, classStanding,
+                                              requiredForPassing, requiredForExcellent));
+        resultArea.setCaretPosition(0);
+    }
+    
+    static String buildAutoFailText(GradeResult grade) {
+        return "═══════════════════════════════════════════════════════════\n" +
+               "                  AUTOMATIC FAILURE\n" +
+               "═══════════════════════════════════════════════════════════\n\n" +
+               "  ❌ YOU HAVE BEEN AUTOMATICALLY FAILED\n\n" +
+               String.format("  Classes held: %d%n", grade.totalClassesThatCount) +
+               String.format("  You attended: %d%n", grade.attendance) +
+               String.format("  Unexcused absences: %d%n%n", grade.unexcusedAbsences) +
+               "  Having 4 or more unexcused absences results in automatic failure.\n\n" +
+               "  Note: Excused absences do not count against you.\n" +
+               "═══════════════════════════════════════════════════════════\n";
+    }
+    
+    static String buildResultText(int attendance, int excusedAbsences, int totalClassesThatCount, 
+                                  double attendanceScore, double lab1, double lab2, double lab3,
+                                  double labWorkAverage, double classStanding,
+                                  double requiredForPassing, double requiredForExcellent) {
         StringBuilder result = new StringBuilder();
         
         result.append("═══════════════════════════════════════════════════════════\n");
@@ -383,7 +638,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             }
         } else if (requiredForPassing <= 0) {
             result.append("  TO PASS (Final Grade of 75):\n");
-            result.append("  ✓ Already Guaranteed!%n%n");
+            result.append("  ✓ Already Guaranteed!\n\n");
             result.append("  You can score 0 on the Prelim Exam and still pass!\n");
             result.append("  Your Class Standing alone ensures a passing grade.\n\n");
         } else {
@@ -397,7 +652,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
             result.append(String.format("  ❌ Impossible - would need %.2f/100%n%n", requiredForExcellent));
         } else if (requiredForExcellent <= 0) {
             result.append("  FOR EXCELLENT (Final Grade of 100):\n");
-            result.append("  ⭐ Already Guaranteed!%n%n");
+            result.append("  ⭐ Already Guaranteed!\n\n");
         } else {
             result.append("  FOR EXCELLENT (Final Grade of 100):\n");
             result.append(String.format("  Need exactly: %.2f/100%n%n", requiredForExcellent));
@@ -421,8 +676,7 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         
         result.append("\n═══════════════════════════════════════════════════════════\n");
         
-        resultArea.setText(result.toString());
-        resultArea.setCaretPosition(0);
+        return result.toString();
     }
     
     private void resetForm() {
@@ -433,25 +687,539 @@ public class PrelimGradeCalculatorGUI extends JFrame {
         lab1Field.setText("");
         lab2Field.setText("");
         lab3Field.setText("");
+        expectedExamField.setText("");
+        spreadField.setText(String.valueOf((int) PassProbabilitySimulator.DEFAULT_SPREAD));
+        
+        // Drop any pending live result and start from an empty panel
+        liveTimer.stop();
+        liveGeneration++;
+        slotTexts[REPORT_SLOT] = "";
+        slotTexts[SIMULATION_SLOT] = "";
+        slotTexts[PROJECTION_SLOT] = "";
+        projectionTerms = null;
+        shownSections.clear();
         resultArea.setText("");
     }
     
+    // ===========================================================================
+    // LIVE RECALCULATION
+    // ===========================================================================
+    
+    private void installLiveRecalculation() {
+        liveTimer.setRepeats(false);
+        
+        DocumentListener listener = new DocumentListener() {
+            public void insertUpdate(DocumentEvent e) { liveTimer.restart(); }
+            public void removeUpdate(DocumentEvent e) { liveTimer.restart(); }
+            public void changedUpdate(DocumentEvent e) { liveTimer.restart(); }
+        };
+        JTextField[] fields = {attendanceField, excusedAbsencesField, lab1Field, lab2Field, lab3Field,
+                               expectedExamField, spreadField};
+        for (JTextField field : fields) {
+            field.getDocument().addDocumentListener(listener);
+        }
+        excuseVerifiedCheckbox.addItemListener(e -> liveTimer.restart());
+    }
+    
+    /**
+     * Called on the EDT by Calculate, Simulate and Project. Live results
+     * still being computed are dropped, and the returned generation lets a
+     * slow manual action tell whether a newer live result has replaced it.
+     */
+    private long startManualAction() {
+        if (liveWorker != null) {
+            liveWorker.cancel(false);
+        }
+        return ++liveGeneration;
+    }
+    
+    /**
+     * Called on the EDT once typing pauses. Snapshots the fields and computes
+     * the report off the EDT; any older computation still running is
+     * cancelled and its result discarded.
+     */
+    private void startLiveRecalculation() {
+        FormInputs inputs = FormInputs.capture(this);
+        long generation = ++liveGeneration;
+        if (liveWorker != null) {
+            liveWorker.cancel(false);
+        }
+        
+        liveWorker = new SwingWorker<String[], Void>() {
+            @Override
+            protected String[] doInBackground() {
+                return computeLiveSlots(inputs, () -> liveGeneration != generation);
+            }
+            
+            @Override
+            protected void done() {
+                if (isCancelled() || generation != liveGeneration) {
+                    return;
+                }
+                try {
+                    String[] slots = get();
+                    if (slots != null) {
+                        showSlot(REPORT_SLOT, slots[REPORT_SLOT]);
+                        showSlot(SIMULATION_SLOT, slots[SIMULATION_SLOT]);
+                        showSlot(PROJECTION_SLOT, slots[PROJECTION_SLOT]);
+                    }
+                } catch (InterruptedException | ExecutionException ex) {
+                    // A newer recalculation will replace this one
+                }
+            }
+        };
+        liveWorker.execute();
+    }
+    
+    /**
+     * Computes the report, simulation and projection text for the given
+     * inputs without popping up dialogs; problems are shown inline instead.
+     * Returns null if the result went stale while computing.
+     */
+    static String[] computeLiveSlots(FormInputs inputs, BooleanSupplier stale) {
+        String[] slots = {"", "", ""};
+        
+        if (!(inputs.attendance.isEmpty() && inputs.lab1.isEmpty() &&
+              inputs.lab2.isEmpty() && inputs.lab3.isEmpty())) {
+            try {
+                int attendance = Integer.parseInt(inputs.attendance);
+                int excusedAbsences = Integer.parseInt(inputs.excusedAbsences);
+                double lab1 = Double.parseDouble(inputs.lab1);
+                double lab2 = Double.parseDouble(inputs.lab2);
+                double lab3 = Double.parseDouble(inputs.lab3);
+                
+                String error = validateInputs(attendance, excusedAbsences, inputs.excuseVerified, lab1, lab2, lab3);
+                if (error != null) {
+                    slots[REPORT_SLOT] = inlineMessage(error);
+                } else {
+                    GradeResult grade = new GradeResult().compute(attendance, excusedAbsences, lab1, lab2, lab3);
+                    slots[REPORT_SLOT] = grade.autoFailed ? buildAutoFailText(grade) :
+                        buildResultText(attendance, excusedAbsences, grade.totalClassesThatCount,
+                                        grade.attendanceScore, lab1, lab2, lab3, grade.labWorkAverage,
+                                        grade.classStanding, grade.requiredForPassing, grade.requiredForExcellent);
+                    if (inputs.projection != null && !grade.autoFailed) {
+                        try {
+                            slots[PROJECTION_SLOT] = TermProjection.project(inputs.projection, grade.classStanding);
+                        } catch (IllegalArgumentException ex) {
+                            slots[PROJECTION_SLOT] = inlineMessage(ex.getMessage());
+                        }
+                    }
+                }
+            } catch (NumberFormatException ex) {
+                slots[REPORT_SLOT] = inlineMessage(INVALID_NUMBER_MESSAGE);
+            }
+        }
+        
+        if (!inputs.expectedExam.isEmpty()) {
+            try {
+                String simulation = SimulationRequest.parse(inputs).run(stale);
+                if (simulation == null) {
+                    return null;
+                }
+                slots[SIMULATION_SLOT] = simulation;
+            } catch (IllegalArgumentException ex) {
+                slots[SIMULATION_SLOT] = inlineMessage(ex.getMessage());
+            }
+        }
+        return stale.getAsBoolean() ? null : slots;
+    }
+    
+    private static String inlineMessage(String message) {
+        return "  ⚠ " + message.replace("\n", "\n    ") + "\n\n";
+    }
+    
+    /**
+     * Replaces one slot of the results panel. The panel text is kept as a
+     * list of report sections, and only the run of sections that actually
+     * changed is replaced in the document.
+     */
+    private void showSlot(int slot, String text) {
+        slotTexts[slot] = text;
+        
+        List<String> sections = new ArrayList<>();
+        for (String slotText : slotTexts) {
+            splitSections(slotText, sections);
+        }
+        
+        int prefix = 0;
+        while (prefix < sections.size() && prefix < shownSections.size() &&
+               sections.get(prefix).equals(shownSections.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < sections.size() - prefix && suffix < shownSections.size() - prefix &&
+               sections.get(sections.size() - 1 - suffix).equals(shownSections.get(shownSections.size() - 1 - suffix))) {
+            suffix++;
+        }
+        if (prefix == sections.size() && prefix == shownSections.size()) {
+            return;
+        }
+        
+        int start = 0;
+        for (int i = 0; i < prefix; i++) {
+            start += shownSections.get(i).length();
+        }
+        int oldLength = 0;
+        for (int i = prefix; i < shownSections.size() - suffix; i++) {
+            oldLength += shownSections.get(i).length();
+        }
+        StringBuilder replacement = new StringBuilder();
+        for (int i = prefix; i < sections.size() - suffix; i++) {
+            replacement.append(sections.get(i));
+        }
+        
+        try {
+            ((AbstractDocument) resultArea.getDocument()).replace(start, oldLength, replacement.toString(), null);
+        } catch (BadLocationException ex) {
+            resultArea.setText(String.join("", sections));
+        }
+        shownSections.clear();
+        shownSections.addAll(sections);
+    }
+    
+    /**
+     * Splits report text before each boxed heading (rule, title, rule).
+     */
+    static void splitSections(String text, List<String> into) {
+        String rule = "═══════════════════════════════════════════════════════════\n";
+        int sectionStart = 0;
+        int pos = text.indexOf(rule);
+        while (pos >= 0) {
+            int titleEnd = text.indexOf('\n', pos + rule.length());
+            boolean heading = titleEnd >= 0 && text.startsWith(rule, titleEnd + 1) &&
+                              !text.startsWith(rule, pos + rule.length());
+            if (heading && pos > sectionStart) {
+                into.add(text.substring(sectionStart, pos));
+                sectionStart = pos;
+            }
+            pos = text.indexOf(rule, heading ? titleEnd + 1 + rule.length() : pos + rule.length());
+        }
+        if (sectionStart < text.length()) {
+            into.add(text.substring(sectionStart));
+        }
+    }
+    
     private void showError(String message) {
         JOptionPane.showMessageDialog(this, message, "Input Error", JOptionPane.ERROR_MESSAGE);
     }
     
+    /**
+     * Raw text of every input, captured on the EDT so background work never
+     * touches Swing components.
+     */
+    static final class FormInputs {
+        String attendance, excusedAbsences, lab1, lab2, lab3, expectedExam, spread;
+        boolean excuseVerified;
+        TermProjection.Request projection;
+        
+        static FormInputs capture(PrelimGradeCalculatorGUI gui) {
+            FormInputs inputs = new FormInputs();
+            inputs.attendance = gui.attendanceField.getText().trim();
+            inputs.excusedAbsences = gui.excusedAbsencesField.getText().trim();
+            inputs.lab1 = gui.lab1Field.getText().trim();
+            inputs.lab2 = gui.lab2Field.getText().trim();
+            inputs.lab3 = gui.lab3Field.getText().trim();
+            inputs.expectedExam = gui.expectedExamField.getText().trim();
+            inputs.spread = gui.spreadField.getText().trim();
+            inputs.excuseVerified = gui.excuseVerifiedCheckbox.isSelected();
+            inputs.projection = gui.projectionTerms;
+            return inputs;
+        }
+    }
+    
+    /**
+     * Parsed and validated inputs for one pass-probability simulation.
+     */
+    static final class SimulationRequest {
+        int attendance, excusedAbsences, ungradedLabs;
+        double[] labs = new double[3];
+        double expectedExam, spread;
+        
+        /**
+         * Throws IllegalArgumentException with the message to show the student.
+         */
+        static SimulationRequest parse(FormInputs inputs) {
+            SimulationRequest request = new SimulationRequest();
+            String[] labTexts = {inputs.lab1, inputs.lab2, inputs.lab3};
+            try {
+                request.attendance = Integer.parseInt(inputs.attendance);
+                request.excusedAbsences = Integer.parseInt(inputs.excusedAbsences);
+                for (int i = 0; i < labTexts.length; i++) {
+                    request.labs[i] = labTexts[i].isEmpty() ? Double.NaN : Double.parseDouble(labTexts[i]);
+                    if (labTexts[i].isEmpty()) {
+                        request.ungradedLabs++;
+                    }
+                }
+                request.expectedExam = Double.parseDouble(inputs.expectedExam);
+                request.spread = inputs.spread.isEmpty() ? PassProbabilitySimulator.DEFAULT_SPREAD
+                                                          : Double.parseDouble(inputs.spread);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(INVALID_NUMBER_MESSAGE);
+            }
+            
+            // Ungraded labs are validated as 0 so only the graded ones can fail the range check
+            double[] labs = request.labs;
+            String error = validateInputs(request.attendance, request.excusedAbsences, inputs.excuseVerified,
+                                          Double.isNaN(labs[0]) ? 0 : labs[0],
+                                          Double.isNaN(labs[1]) ? 0 : labs[1],
+                                          Double.isNaN(labs[2]) ? 0 : labs[2]);
+            if (error == null) {
+                error = validateSimulationInputs(request.expectedExam, request.spread);
+            }
+            if (error != null) {
+                throw new IllegalArgumentException(error);
+            }
+            return request;
+        }
+        
+        /**
+         * Runs the simulation and formats it, or returns null if cancelled.
+         * An auto-failed student gets a note instead, since every trial
+         * would end the same way.
+         */
+        String run(BooleanSupplier cancelled) {
+            GradeResult base = new GradeResult().compute(attendance, excusedAbsences, 0, 0, 0);
+            if (base.autoFailed) {
+                return PassProbabilitySimulator.formatAutoFailed(base);
+            }
+            PassProbabilitySimulator.Result result = PassProbabilitySimulator.simulate(
+                attendance, excusedAbsences, labs, expectedExam, spread,
+                PassProbabilitySimulator.DEFAULT_TRIALS, System.nanoTime(), cancelled);
+            return result == null ? null : PassProbabilitySimulator.format(result, expectedExam, spread, ungradedLabs);
+        }
+    }
+    
+    /**
+     * Derived values for one student, computed with the same rules as the GUI.
+     * Instances are mutable so batch code can reuse one per worker.
+     */
+    static final class GradeResult {
+        int attendance, excusedAbsences, totalClassesThatCount, unexcusedAbsences;
+        boolean autoFailed;
+        double lab1, lab2, lab3;
+        double attendanceScore, labWorkAverage, classStanding;
+        double requiredForPassing, requiredForExcellent;
+        
+        GradeResult compute(int attendance, int excusedAbsences, double lab1, double lab2, double lab3) {
+            this.attendance = attendance;
+            this.excusedAbsences = excusedAbsences;
+            this.lab1 = lab1;
+            this.lab2 = lab2;
+            this.lab3 = lab3;
+            
+            // Calculate total classes that count (excused absences don't count against you)
+            totalClassesThatCount = TOTAL_CLASSES - excusedAbsences;
+            unexcusedAbsences = totalClassesThatCount - attendance;
+            
+            // 4 or more unexcused absences is an automatic failure
+            autoFailed = unexcusedAbsences >= 4;
+            
+            // Calculate attendance score (based on classes that count)
+            attendanceScore = totalClassesThatCount > 0 ? 
+                             (double) attendance / totalClassesThatCount * 100 : 100.0;
+            
+            // Calculate Lab Work Average
+            labWorkAverage = (lab1 + lab2 + lab3) / 3.0;
+            
+            // Calculate Class Standing
+            classStanding = (attendanceScore * ATTENDANCE_WEIGHT) + 
+                           (labWorkAverage * LAB_WORK_WEIGHT);
+            
+            // Calculate required Prelim Exam scores
+            requiredForPassing = computeRequiredPrelimScore(classStanding, PASSING_GRADE);
+            requiredForExcellent = computeRequiredPrelimScore(classStanding, EXCELLENT_GRADE);
+            return this;
+        }
+    }
+    
     public static void main(String[] args) {
-        // Set look and feel to system default
-        try {
-            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
-        } catch (Exception e) {
-            e.printStackTrace();
+        // Headless batch modes. The only GUI argument is --fast-start;
+        // -Dstartup.fast=true asks for the same without taking over args.
+        if (args.length > 0 && !args[0].equals("--fast-start")) {
+            runHeadless(args);
+            return;
+        }
+        boolean fastStart = args.length > 0 || Boolean.getBoolean("startup.fast");
+        
+        // Set look and feel to system default. Fast start keeps the built-in
+        // look and feel, which is already loaded and skips the native theme lookup.
+        if (!fastStart) {
+            try {
+                UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
         }
         
         // Create and show GUI on Event Dispatch Thread
         SwingUtilities.invokeLater(() -> {
-            PrelimGradeCalculatorGUI frame = new PrelimGradeCalculatorGUI();
+            PrelimGradeCalculatorGUI frame = new PrelimGradeCalculatorGUI(fastStart);
             frame.setVisible(true);
         });
     }
+    
+    // ===========================================================================
+    // STARTUP
+    // ===========================================================================
+    
+    // The form uses a handful of Arial sizes; each is made once
+    private static Font uiFont(int style, int size) {
+        return UI_FONTS.computeIfAbsent(style * 1000 + size, k -> new Font("Arial", style, size));
+    }
+    
+    /**
+     * Calls action on the EDT once the window has painted (or half a second
+     * after it is shown), which is where fast start wires up live updates.
+     */
+    private static void onFirstFrame(Window window, Runnable action) {
+        Toolkit toolkit = Toolkit.getDefaultToolkit();
+        boolean[] done = {false};
+        Runnable once = () -> {
+            if (!done[0]) {
+                done[0] = true;
+                action.run();
+            }
+        };
+        AWTEventListener listener = new AWTEventListener() {
+            public void eventDispatched(AWTEvent event) {
+                if (event.getSource() == window) {
+                    toolkit.removeAWTEventListener(this);
+                    // Queued behind the paint that is being dispatched now
+                    SwingUtilities.invokeLater(once);
+                }
+            }
+        };
+        toolkit.addAWTEventListener(listener, AWTEvent.PAINT_EVENT_MASK);
+        javax.swing.Timer fallback = new javax.swing.Timer(500, e -> {
+            toolkit.removeAWTEventListener(listener);
+            once.run();
+        });
+        fallback.setRepeats(false);
+        // The fallback counts from when the window is shown, not from when it was built
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                window.removeWindowListener(this);
+                fallback.start();
+            }
+        });
+    }
+    
+    /**
+     * Startup milestone for StartupBenchmark, which documents the
+     * startup.* properties.
+     */
+    private static void traceStartup(String phase) {
+        if (!Boolean.getBoolean("startup.trace")) {
+            return;
+        }
+        long launched = Long.getLong("startup.launchMillis",
+            ProcessHandle.current().info().startInstant().map(i -> i.toEpochMilli()).orElse(0L));
+        System.out.println("STARTUP " + phase + " " + (System.currentTimeMillis() - launched));
+        if (phase.equals("interactive") && Boolean.getBoolean("startup.exitAfterInteractive")) {
+            System.exit(0);
+        }
+    }
+    
+    private static void runHeadless(String[] args) {
+        try {
+            switch (args[0]) {
+                case "--report":
+                    if (args.length < 3) {
+                        break;
+                    }
+                    boolean split = args.length > 3 && args[3].equals("--split");
+                    int count = GradeReportRenderer.renderRoster(Paths.get(args[1]),
+                                                                 Paths.get(args[2]), split);
+                    System.out.println("Rendered " + count + " reports to " + args[2]);
+                    return;
+                case "--from-attendance":
+                    if (args.length < 3) {
+                        break;
+                    }
+                    Writer out = args.length > 3
+                        ? Files.newBufferedWriter(Paths.get(args[3]))
+                        : new BufferedWriter(new OutputStreamWriter(System.out));
+                    try (out) {
+                        int graded = AttendanceGradePipeline.run(Paths.get(args[1]),
+                                                                 Paths.get(args[2]), out);
+                        System.err.println("Graded " + graded + " students from " + args[1]);
+                    }
+                    return;
+                case "--roster-update":
+                    if (args.length < 3) {
+                        break;
+                    }
+                    RosterGradebook.runUpdate(Paths.get(args[1]), Paths.get(args[2]),
+                                              args.length > 3 ? Paths.get(args[3]) : null);
+                    return;
+                case "--section-stats":
+                    if (args.length < 2) {
+                        break;
+                    }
+                    SectionStatistics.run(Paths.get(args[1]),
+                                          args.length > 2 ? Integer.parseInt(args[2]) : SectionStatistics.DEFAULT_TOP_K);
+                    return;
+                case "--project":
+                    if (args.length < 2) {
+                        break;
+                    }
+                    double target = args.length > 2 ? Double.parseDouble(args[2]) : PASSING_GRADE;
+                    // Check what we can before the output file is created or truncated
+                    String targetError = TermProjection.validateTarget(target);
+                    if (targetError != null) {
+                        throw new IllegalArgumentException(targetError);
+                    }
+                    if (!Files.isReadable(Paths.get(args[1]))) {
+                        throw new NoSuchFileException(args[1], null, "roster not found");
+                    }
+                    Writer projectionOut = args.length > 3
+                        ? Files.newBufferedWriter(Paths.get(args[3]))
+                        : new BufferedWriter(new OutputStreamWriter(System.out));
+                    try (projectionOut) {
+                        int projected = TermProjection.runRoster(Paths.get(args[1]), target, projectionOut);
+                        System.err.println("Projected " + projected + " students from " + args[1]);
+                    }
+                    return;
+                case "--benchmark":
+                    GradeBenchmark.run(args.length > 1 ? args[1] : null);
+                    return;
+                case "--benchmark-fork":
+                    // One fork of --benchmark, started by GradeBenchmark itself
+                    if (args.length < 3) {
+                        break;
+                    }
+                    GradeBenchmark.runFork(args[1], Integer.parseInt(args[2]));
+                    return;
+                case "--serve":
+                    GradeService service = new GradeService(args.length > 1 ? Integer.parseInt(args[1]) : 8080);
+                    service.start();
+                    System.out.println("Grading service listening on port " + service.port());
+                    return;
+                case "--load-test":
+                    GradeLoadGenerator.run(
+                        args.length > 3 ? args[3] : null,
+                        args.length > 1 ? Integer.parseInt(args[1]) : GradeLoadGenerator.DEFAULT_REQUESTS,
+                        args.length > 2 ? Integer.parseInt(args[2]) : GradeLoadGenerator.DEFAULT_CONCURRENCY);
+                    return;
+                default:
+                    break;
+            }
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+        
+        System.err.println("Usage:");
+        System.err.println("  java PrelimGradeCalculatorGUI [--fast-start]");
+        System.err.println("  java PrelimGradeCalculatorGUI --report <roster.csv> <output> [--split]");
+        System.err.println("  java PrelimGradeCalculatorGUI --from-attendance <attendance_records.txt> <labs.csv> [grades.csv]");
+        System.err.println("  java PrelimGradeCalculatorGUI --roster-update <roster.csv> <updates.csv> [changelog.txt]");
+        System.err.println("  java PrelimGradeCalculatorGUI --section-stats <roster.csv> [K]");
+        System.err.println("  java PrelimGradeCalculatorGUI --project <roster.csv> [target] [projection.csv]");
+        System.err.println("  java PrelimGradeCalculatorGUI --benchmark [name filter]");
+        System.err.println("  java PrelimGradeCalculatorGUI --serve [port]");
+        System.err.println("  java PrelimGradeCalculatorGUI --load-test [requests] [concurrency] [url]");
+        System.exit(2);
+    }
 }
@@ -0,0 +1,349 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Roster Gradebook - Incremental Version
+ * Keeps every student's derived values (lab average, class standing,
+ * required Prelim scores) and per-section totals in memory, so changing one
+ * lab grade only regrades that student instead of the whole roster.
+ *
+ * Changes are staged with upsert/remove, which mark rows dirty only when
+ * an input actually changed. commit() regrades the dirty rows, moves their
+ * contribution in the section totals, and returns a changelog. An update
+ * costs O(changed rows), not O(roster).
+ *
+ * Section totals are kept in fixed-point micro-units so that subtracting
+ * a student's old contribution and adding the new one never drifts.
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --roster-update roster.csv updates.csv [changelog.txt]
+ * updates.csv uses the roster format; a line "-studentId" removes a student.
+ * Update lines that cannot be parsed are logged as SKIPPED in the changelog.
+ */
+class RosterGradebook {
+
+    private static final double MICRO = 1_000_000.0;
+
+    /**
+     * One student with their latest inputs and derived values.
+     */
+    static final class Row {
+        RosterRecord record;
+        final PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+        String error;
+        boolean dirty;
+        boolean removed;
+
+        // What this row currently contributes to its section totals
+        String countedSection;
+        boolean counted;
+
+        String status() {
+            if (error != null) {
+                return "ERROR";
+            }
+            if (grade.autoFailed) {
+                return "AUTO_FAIL";
+            }
+            if (grade.requiredForPassing <= 0) {
+                return "GUARANTEED";
+            }
+            return grade.requiredForPassing <= 100 ? "CAN_PASS" : "CANNOT_PASS";
+        }
+    }
+
+    /**
+     * Running totals for one section.
+     */
+    static final class SectionTotals {
+        int students, errors, autoFailed, canPass, guaranteed;
+        long classStandingMicros, requiredForPassingMicros;
+
+        int graded() {
+            return students - errors - autoFailed;
+        }
+
+        double averageClassStanding() {
+            return graded() == 0 ? 0 : classStandingMicros / MICRO / graded();
+        }
+
+        double averageRequiredForPassing() {
+            return graded() == 0 ? 0 : requiredForPassingMicros / MICRO / graded();
+        }
+
+        void apply(Row row, int sign) {
+            students += sign;
+            if (row.error != null) {
+                errors += sign;
+            } else if (row.grade.autoFailed) {
+                autoFailed += sign;
+            } else {
+                classStandingMicros += sign * Math.round(row.grade.classStanding * MICRO);
+                requiredForPassingMicros += sign * Math.round(row.grade.requiredForPassing * MICRO);
+                if (row.grade.requiredForPassing <= 100) {
+                    canPass += sign;
+                }
+                if (row.grade.requiredForPassing <= 0) {
+                    guaranteed += sign;
+                }
+            }
+        }
+    }
+
+    /**
+     * One changelog entry produced by commit().
+     */
+    static final class Change {
+        final String studentId, section;
+        final String oldStatus, newStatus;
+        final double oldClassStanding, newClassStanding;
+        final double oldRequired, newRequired;
+
+        Change(String studentId, String section, String oldStatus, String newStatus,
+               double oldClassStanding, double newClassStanding, double oldRequired, double newRequired) {
+            this.studentId = studentId;
+            this.section = section;
+            this.oldStatus = oldStatus;
+            this.newStatus = newStatus;
+            this.oldClassStanding = oldClassStanding;
+            this.newClassStanding = newClassStanding;
+            this.oldRequired = oldRequired;
+            this.newRequired = newRequired;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "%s (%s): %s -> %s, class standing %s -> %s, required for passing %s -> %s",
+                studentId, section, oldStatus, newStatus,
+                number(oldClassStanding), number(newClassStanding),
+                number(oldRequired), number(newRequired));
+        }
+
+        private static String number(double value) {
+            return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+    private final Map<String, SectionTotals> sections = new TreeMap<>();
+    private final Set<Row> dirtyRows = new LinkedHashSet<>();
+
+    // ===========================================================================
+    // STAGING
+    // ===========================================================================
+
+    /**
+     * Adds or replaces a student. The row is only marked dirty when one of
+     * its inputs is different from what is already stored.
+     */
+    void upsert(RosterRecord record) {
+        Row row = rows.get(record.studentId);
+        if (row == null) {
+            row = new Row();
+            rows.put(record.studentId, row);
+        } else if (!row.removed && sameInputs(row.record, record)) {
+            return;
+        }
+        row.record = record;
+        row.removed = false;
+        markDirty(row);
+    }
+
+    void remove(String studentId) {
+        Row row = rows.get(studentId);
+        if (row != null && !row.removed) {
+            row.removed = true;
+            markDirty(row);
+        }
+    }
+
+    int dirtyCount() {
+        return dirtyRows.size();
+    }
+
+    private void markDirty(Row row) {
+        if (!row.dirty) {
+            row.dirty = true;
+            dirtyRows.add(row);
+        }
+    }
+
+    private static boolean sameInputs(RosterRecord a, RosterRecord b) {
+        return a.section.equals(b.section) &&
+               a.attendance == b.attendance &&
+               a.excusedAbsences == b.excusedAbsences &&
+               a.excuseVerified == b.excuseVerified &&
+               Double.compare(a.lab1, b.lab1) == 0 &&
+               Double.compare(a.lab2, b.lab2) == 0 &&
+               Double.compare(a.lab3, b.lab3) == 0;
+    }
+
+    // ===========================================================================
+    // RECOMPUTATION
+    // ===========================================================================
+
+    /**
+     * Regrades only the dirty rows, updates the affected section totals and
+     * returns one changelog entry per row that changed.
+     */
+    List<Change> commit() {
+        List<Change> changes = new ArrayList<>(dirtyRows.size());
+        for (Row row : dirtyRows) {
+            String oldStatus = row.counted ? row.status() : "NEW";
+            double oldClassStanding = row.counted ? derivedClassStanding(row) : Double.NaN;
+            double oldRequired = row.counted ? derivedRequired(row) : Double.NaN;
+
+            // Take the old values out of their section
+            if (row.counted) {
+                SectionTotals old = sections.get(row.countedSection);
+                old.apply(row, -1);
+                if (old.students == 0) {
+                    sections.remove(row.countedSection);
+                }
+                row.counted = false;
+            }
+
+            row.dirty = false;
+            if (row.removed) {
+                rows.remove(row.record.studentId);
+                changes.add(new Change(row.record.studentId, row.record.section, oldStatus, "REMOVED",
+                                       oldClassStanding, Double.NaN, oldRequired, Double.NaN));
+                continue;
+            }
+
+            // Regrade and put the new values in
+            row.error = row.record.validate();
+            if (row.error == null) {
+                row.record.grade(row.grade);
+            }
+            row.countedSection = row.record.section;
+            row.counted = true;
+            sections.computeIfAbsent(row.countedSection, s -> new SectionTotals()).apply(row, +1);
+
+            changes.add(new Change(row.record.studentId, row.record.section, oldStatus, row.status(),
+                                   oldClassStanding, derivedClassStanding(row),
+                                   oldRequired, derivedRequired(row)));
+        }
+        dirtyRows.clear();
+        return changes;
+    }
+
+    private static double derivedClassStanding(Row row) {
+        return row.error != null || row.grade.autoFailed ? Double.NaN : row.grade.classStanding;
+    }
+
+    private static double derivedRequired(Row row) {
+        return row.error != null || row.grade.autoFailed ? Double.NaN : row.grade.requiredForPassing;
+    }
+
+    Row row(String studentId) {
+        return rows.get(studentId);
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    Map<String, SectionTotals> sections() {
+        return Collections.unmodifiableMap(sections);
+    }
+
+    String formatSections() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-12s %8s %8s %8s %8s %10s %10s%n",
+                                "Section", "Students", "CanPass", "AutoFail", "Errors", "AvgCS", "AvgNeed"));
+        for (Map.Entry<String, SectionTotals> entry : sections.entrySet()) {
+            SectionTotals t = entry.getValue();
+            sb.append(String.format(Locale.ROOT, "%-12s %8d %8d %8d %8d %10.2f %10.2f%n",
+                                    entry.getKey(), t.students, t.canPass, t.autoFailed, t.errors,
+                                    t.averageClassStanding(), t.averageRequiredForPassing()));
+        }
+        return sb.toString();
+    }
+
+    // ===========================================================================
+    // FILE MODE
+    // ===========================================================================
+
+    /**
+     * Stages every row of a roster-format file. Lines of the form
+     * "-studentId" stage a removal. Lines that cannot be parsed are not
+     * staged; each one is added to skipped as "file:line: reason".
+     * Returns the number of lines staged.
+     */
+    int stage(Path file, List<String> skipped) throws IOException {
+        int staged = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (RosterRecord.isSkippable(line)) {
+                    continue;
+                }
+                String trimmed = line.trim();
+                if (trimmed.startsWith("-")) {
+                    remove(trimmed.substring(1).trim());
+                } else {
+                    try {
+                        upsert(RosterRecord.parse(line));
+                    } catch (NumberFormatException e) {
+                        skipped.add(file + ":" + lineNumber + ": " + e.getMessage());
+                        continue;
+                    }
+                }
+                staged++;
+            }
+        }
+        return staged;
+    }
+
+    static void runUpdate(Path roster, Path updates, Path changelog) throws IOException {
+        RosterGradebook gradebook = new RosterGradebook();
+
+        long start = System.nanoTime();
+        List<String> skipped = new ArrayList<>();
+        gradebook.stage(roster, skipped);
+        gradebook.commit();
+        long loaded = System.nanoTime() - start;
+        for (String line : skipped) {
+            System.err.println(line);
+        }
+        System.out.printf("Loaded %d students in %.1f ms%n", gradebook.size(), loaded / 1e6);
+
+        skipped.clear();
+        start = System.nanoTime();
+        gradebook.stage(updates, skipped);
+        int dirty = gradebook.dirtyCount();
+        List<Change> changes = gradebook.commit();
+        long updated = System.nanoTime() - start;
+        System.out.printf("Regraded %d changed students in %.3f ms, skipped %d unparseable lines%n%n",
+                          dirty, updated / 1e6, skipped.size());
+
+        Writer out = changelog == null
+            ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+            : Files.newBufferedWriter(changelog, StandardCharsets.UTF_8);
+        try {
+            for (Change change : changes) {
+                out.write(change.toString());
+                out.write('\n');
+            }
+            for (String line : skipped) {
+                out.write("SKIPPED " + line);
+                out.write('\n');
+            }
+        } finally {
+            // Leave System.out open for the section summary
+            if (changelog == null) {
+                out.flush();
+            } else {
+                out.close();
+            }
+        }
+        System.out.println();
+        System.out.print(gradebook.formatSections());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * One student row of a class roster, used by the batch modes of the
+ * Prelim Grade Calculator.
+ *
+ * Roster files are plain CSV, one student per line:
+ *   studentId,section,attendance,excusedAbsences,excuseVerified,lab1,lab2,lab3
+ * Blank lines and lines starting with '#' are ignored.
+ */
+class RosterRecord {
+
+    String studentId, section;
+    int attendance, excusedAbsences;
+    boolean excuseVerified;
+    double lab1, lab2, lab3;
+
+    RosterRecord(String studentId, String section, int attendance, int excusedAbsences,
+                 boolean excuseVerified, double lab1, double lab2, double lab3) {
+        this.studentId = studentId;
+        this.section = section;
+        this.attendance = attendance;
+        this.excusedAbsences = excusedAbsences;
+        this.excuseVerified = excuseVerified;
+        this.lab1 = lab1;
+        this.lab2 = lab2;
+        this.lab3 = lab3;
+    }
+
+    /**
+     * Quotes a value for the CSV files the batch modes write, when it
+     * contains a comma, quote or line break.
+     */
+    static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Returns true for lines that carry no student (blank or comment).
+     */
+    static boolean isSkippable(String line) {
+        String trimmed = line.trim();
+        return trimmed.isEmpty() || trimmed.charAt(0) == '#';
+    }
+
+    /**
+     * Parses one roster line. Throws NumberFormatException with the same
+     * message the calculator shows when a number cannot be read.
+     */
+    static RosterRecord parse(String line) {
+        String[] parts = line.split(",", -1);
+        if (parts.length != 8) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+        try {
+            return new RosterRecord(
+                parts[0].trim(),
+                parts[1].trim(),
+                Integer.parseInt(parts[2].trim()),
+                Integer.parseInt(parts[3].trim()),
+                Boolean.parseBoolean(parts[4].trim()),
+                Double.parseDouble(parts[5].trim()),
+                Double.parseDouble(parts[6].trim()),
+                Double.parseDouble(parts[7].trim())
+            );
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(PrelimGradeCalculatorGUI.INVALID_NUMBER_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns the calculator's validation message for this row, or null when valid.
+     */
+    String validate() {
+        return PrelimGradeCalculatorGUI.validateInputs(attendance, excusedAbsences, excuseVerified,
+                                                       lab1, lab2, lab3);
+    }
+
+    PrelimGradeCalculatorGUI.GradeResult grade(PrelimGradeCalculatorGUI.GradeResult into) {
+        return into.compute(attendance, excusedAbsences, lab1, lab2, lab3);
+    }
+
+    @Override
+    public String toString() {
+        return studentId + "," + section + "," + attendance + "," + excusedAbsences + "," +
+               excuseVerified + "," + lab1 + "," + lab2 + "," + lab3;
+    }
+}
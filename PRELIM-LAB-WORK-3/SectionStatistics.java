@@ -0,0 +1,299 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Section Statistics - Streaming Version
+ * Summarizes a roster per section for department heads: the class standing
+ * distribution, the median required Prelim score, running means, and the K
+ * students who need the highest Prelim score to pass (the most at risk).
+ *
+ * The roster is streamed once. Lines are handed out in batches to one
+ * worker per core, and each worker keeps its own partial statistics per
+ * section: two KLL quantile sketches, running means and a bounded min-heap
+ * of the K highest requiredForPassing values. When the file is done the
+ * partials are merged. Each partial takes the same small amount of memory
+ * however many students the section has (the sketches grow only with the
+ * logarithm of the count).
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --section-stats roster.csv [K]
+ */
+class SectionStatistics {
+
+    static final int DEFAULT_TOP_K = 5;
+    private static final int BATCH_LINES = 4096;
+    private static final List<String> END_OF_INPUT = new ArrayList<>();
+
+    /**
+     * Mean of a stream of values, mergeable with another stream's mean.
+     */
+    static final class RunningMean {
+        long count;
+        double mean;
+
+        void add(double value) {
+            count++;
+            mean += (value - mean) / count;
+        }
+
+        void merge(RunningMean other) {
+            if (other.count == 0) {
+                return;
+            }
+            long total = count + other.count;
+            mean += (other.mean - mean) * other.count / total;
+            count = total;
+        }
+    }
+
+    /**
+     * One student on the at-risk list.
+     */
+    static final class AtRisk {
+        final String studentId;
+        final double requiredForPassing;
+
+        AtRisk(String studentId, double requiredForPassing) {
+            this.studentId = studentId;
+            this.requiredForPassing = requiredForPassing;
+        }
+    }
+
+    private static final Comparator<AtRisk> LEAST_AT_RISK_FIRST =
+        Comparator.<AtRisk>comparingDouble(a -> a.requiredForPassing)
+                  .thenComparing(a -> a.studentId, Comparator.reverseOrder());
+
+    /**
+     * Statistics for one section, built from one part of the roster or
+     * merged from several.
+     */
+    static final class Section {
+        int students, errors, autoFailed;
+        final KllSketch classStanding = new KllSketch();
+        final KllSketch requiredForPassing = new KllSketch();
+        final RunningMean classStandingMean = new RunningMean();
+        final RunningMean requiredMean = new RunningMean();
+
+        // Min-heap, so the least at-risk of the current K is the one replaced
+        private final PriorityQueue<AtRisk> atRisk = new PriorityQueue<>(LEAST_AT_RISK_FIRST);
+        private final int topK;
+
+        Section(int topK) {
+            this.topK = topK;
+        }
+
+        void add(String studentId, PrelimGradeCalculatorGUI.GradeResult grade) {
+            students++;
+            if (grade.autoFailed) {
+                autoFailed++;
+                return;
+            }
+            classStanding.add(grade.classStanding);
+            requiredForPassing.add(grade.requiredForPassing);
+            classStandingMean.add(grade.classStanding);
+            requiredMean.add(grade.requiredForPassing);
+            offer(new AtRisk(studentId, grade.requiredForPassing));
+        }
+
+        void addError() {
+            students++;
+            errors++;
+        }
+
+        void merge(Section other) {
+            students += other.students;
+            errors += other.errors;
+            autoFailed += other.autoFailed;
+            classStanding.merge(other.classStanding);
+            requiredForPassing.merge(other.requiredForPassing);
+            classStandingMean.merge(other.classStandingMean);
+            requiredMean.merge(other.requiredMean);
+            for (AtRisk student : other.atRisk) {
+                offer(student);
+            }
+        }
+
+        private void offer(AtRisk student) {
+            if (atRisk.size() < topK) {
+                atRisk.add(student);
+            } else if (LEAST_AT_RISK_FIRST.compare(student, atRisk.peek()) > 0) {
+                atRisk.poll();
+                atRisk.add(student);
+            }
+        }
+
+        /**
+         * Returns the at-risk students, highest required score first.
+         */
+        List<AtRisk> mostAtRisk() {
+            List<AtRisk> list = new ArrayList<>(atRisk);
+            list.sort(LEAST_AT_RISK_FIRST.reversed());
+            return list;
+        }
+    }
+
+    private final int topK;
+    private final Map<String, Section> sections = new TreeMap<>();
+    private final PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+
+    /**
+     * topK is how many most-at-risk students each section keeps, at least 1.
+     */
+    SectionStatistics(int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("Number of at-risk students to list must be at least 1");
+        }
+        this.topK = topK;
+    }
+
+    /**
+     * Grades one roster line into these statistics. Unreadable lines are
+     * reported and skipped; invalid inputs count as errors in their section.
+     */
+    void add(String line) {
+        RosterRecord record;
+        try {
+            record = RosterRecord.parse(line);
+        } catch (NumberFormatException e) {
+            System.err.println(e.getMessage() + ": " + line);
+            return;
+        }
+        Section section = sections.computeIfAbsent(record.section, s -> new Section(topK));
+        if (record.validate() != null) {
+            section.addError();
+            return;
+        }
+        section.add(record.studentId, record.grade(grade));
+    }
+
+    void merge(SectionStatistics other) {
+        for (Map.Entry<String, Section> entry : other.sections.entrySet()) {
+            sections.computeIfAbsent(entry.getKey(), s -> new Section(topK)).merge(entry.getValue());
+        }
+    }
+
+    Map<String, Section> sections() {
+        return Collections.unmodifiableMap(sections);
+    }
+
+    // ===========================================================================
+    // PARALLEL STREAMING
+    // ===========================================================================
+
+    /**
+     * Streams the roster through one worker per core and merges their
+     * partial statistics. If a worker fails, reading stops and this throws
+     * IllegalStateException rather than returning statistics that are
+     * missing that worker's students.
+     */
+    static SectionStatistics compute(Path roster, int topK) throws IOException, InterruptedException {
+        // Checks topK before any worker starts
+        SectionStatistics result = new SectionStatistics(topK);
+        int workers = Runtime.getRuntime().availableProcessors();
+        BlockingQueue<List<String>> batches = new ArrayBlockingQueue<>(workers * 2);
+        SectionStatistics[] partials = new SectionStatistics[workers];
+        Thread[] threads = new Thread[workers];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int w = 0; w < workers; w++) {
+            SectionStatistics partial = new SectionStatistics(topK);
+            partials[w] = partial;
+            threads[w] = new Thread(() -> {
+                try {
+                    List<String> batch;
+                    while ((batch = batches.take()) != END_OF_INPUT) {
+                        // After a failure, keep taking batches so the reader never blocks on a full queue
+                        if (failure.get() != null) {
+                            continue;
+                        }
+                        try {
+                            for (String line : batch) {
+                                partial.add(line);
+                            }
+                        } catch (RuntimeException | Error e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "section-stats-" + w);
+            threads[w].start();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(roster, StandardCharsets.UTF_8)) {
+            List<String> batch = new ArrayList<>(BATCH_LINES);
+            String line;
+            while ((line = reader.readLine()) != null && failure.get() == null) {
+                if (RosterRecord.isSkippable(line)) {
+                    continue;
+                }
+                batch.add(line);
+                if (batch.size() == BATCH_LINES) {
+                    batches.put(batch);
+                    batch = new ArrayList<>(BATCH_LINES);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batches.put(batch);
+            }
+        } finally {
+            for (int w = 0; w < workers; w++) {
+                batches.put(END_OF_INPUT);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Section statistics worker failed: " + failure.get(), failure.get());
+        }
+
+        for (SectionStatistics partial : partials) {
+            result.merge(partial);
+        }
+        return result;
+    }
+
+    String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Section> entry : sections.entrySet()) {
+            Section s = entry.getValue();
+            sb.append(String.format(Locale.ROOT, "Section %s: %d students, %d auto-failed, %d errors%n",
+                                    entry.getKey(), s.students, s.autoFailed, s.errors));
+            if (s.classStanding.count() == 0) {
+                sb.append(String.format("  No graded students%n%n"));
+                continue;
+            }
+            sb.append(String.format(Locale.ROOT,
+                "  Class Standing     mean %6.2f   p10 %6.2f  p25 %6.2f  median %6.2f  p75 %6.2f  p90 %6.2f%n",
+                s.classStandingMean.mean,
+                s.classStanding.quantile(0.10), s.classStanding.quantile(0.25), s.classStanding.quantile(0.50),
+                s.classStanding.quantile(0.75), s.classStanding.quantile(0.90)));
+            sb.append(String.format(Locale.ROOT,
+                "  Required to Pass   mean %6.2f   median %6.2f%n",
+                s.requiredMean.mean, s.requiredForPassing.quantile(0.50)));
+            sb.append(String.format("  Most at risk:%n"));
+            for (AtRisk student : s.mostAtRisk()) {
+                sb.append(String.format(Locale.ROOT, "    %-16s needs %.2f%s%n",
+                                        student.studentId, student.requiredForPassing,
+                                        student.requiredForPassing > 100 ? " (cannot pass)" : ""));
+            }
+            sb.append(String.format("%n"));
+        }
+        return sb.toString();
+    }
+
+    static void run(Path roster, int topK) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        SectionStatistics statistics = compute(roster, topK);
+        long elapsed = System.nanoTime() - start;
+        System.out.print(statistics.format());
+        System.out.printf("Summarized %d sections in %.1f ms%n", statistics.sections.size(), elapsed / 1e6);
+    }
+}
@@ -0,0 +1,202 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Startup Benchmark for the Swing tools
+ * Launches a tool in a fresh JVM several times and reports time-to-first-frame
+ * and time-to-interactive, measured from the moment the JVM was launched.
+ *
+ * Each tool prints "STARTUP first-frame <ms>" and "STARTUP interactive <ms>"
+ * when run with -Dstartup.trace=true and exits right after becoming
+ * interactive when -Dstartup.exitAfterInteractive=true.
+ *
+ * Three configurations are measured:
+ *   normal      - the tool as students run it today
+ *   fast        - --fast-start (see each tool's main)
+ *   fast + CDS  - fast start plus an AppCDS archive of the classes loaded
+ *                 during startup, generated by a training run with
+ *                 -XX:ArchiveClassesAtExit and used with -XX:SharedArchiveFile
+ *
+ * AppCDS only archives classes loaded from JAR files, so the compiled
+ * classes are packed into a temporary JAR and every mode runs from it.
+ *
+ * Usage (compile the tools first, needs a display):
+ *   java StartupBenchmark . PrelimGradeCalculatorGUI
+ *   java StartupBenchmark ../PRELIM-LAB-WORK-1 AttendanceTrackerClean 10
+ *
+ * Generating the CDS archive a lab machine starts from:
+ *   java StartupBenchmark --generate-cds <class dir> <main class>
+ * This writes <main class>.jar and <main class>.jsa next to the classes
+ * (regenerate both after recompiling or changing JDK), then start the tool
+ * from that directory with
+ *   java -XX:SharedArchiveFile=<main class>.jsa -cp <main class>.jar <main class> --fast-start
+ */
+public class StartupBenchmark {
+
+    private static final int DEFAULT_RUNS = 5;
+    private static final long RUN_TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("--generate-cds")) {
+            Path classDir = Paths.get(args[1]).toAbsolutePath();
+            String mainClass = args[2];
+            Path jar = classDir.resolve(mainClass + ".jar");
+            Path archive = classDir.resolve(mainClass + ".jsa");
+            buildJar(classDir, jar);
+            generateArchive(classDir, jar, mainClass, archive);
+            System.out.println("Start " + mainClass + " from " + classDir + " with");
+            System.out.println("  java -XX:SharedArchiveFile=" + archive.getFileName() + " -cp " + jar.getFileName() +
+                               " " + mainClass + " --fast-start");
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("Usage: java StartupBenchmark <class dir> <main class> [runs]");
+            System.err.println("       java StartupBenchmark --generate-cds <class dir> <main class>");
+            System.exit(2);
+        }
+        Path classDir = Paths.get(args[0]).toAbsolutePath();
+        String mainClass = args[1];
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+
+        Path jar = Files.createTempFile("startup-benchmark", ".jar");
+        buildJar(classDir, jar);
+        Path archive = Files.createTempFile(mainClass, ".jsa");
+        Files.delete(archive);
+        boolean archived = generateArchive(classDir, jar, mainClass, archive);
+        if (!archived) {
+            System.out.println("CDS archive was not created; fast + CDS falls back to the default archive");
+        }
+
+        System.out.printf("%n%-12s %22s %22s%n", "", "first frame (ms)", "interactive (ms)");
+        System.out.printf("%-12s %7s %7s %7s %7s %7s %7s%n", "mode", "median", "min", "max", "median", "min", "max");
+        report("normal", measure(classDir, jar, mainClass, List.of(), false, runs));
+        report("fast", measure(classDir, jar, mainClass, List.of(), true, runs));
+        report("fast + CDS", measure(classDir, jar, mainClass,
+                                     List.of("-XX:SharedArchiveFile=" + archive), true, runs));
+
+        Files.deleteIfExists(archive);
+        Files.deleteIfExists(jar);
+    }
+
+    /**
+     * Packs the top-level .class files of classDir into jar.
+     */
+    private static void buildJar(Path classDir, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> classes = Files.list(classDir)) {
+            for (Path file : (Iterable<Path>) classes.filter(p -> p.toString().endsWith(".class"))::iterator) {
+                out.putNextEntry(new JarEntry(file.getFileName().toString()));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Training run: starts the tool from jar in fast-start mode and lets the
+     * JVM dump every class it loaded into archive on exit. Returns false if
+     * no archive was written.
+     */
+    private static boolean generateArchive(Path classDir, Path jar, String mainClass, Path archive)
+            throws Exception {
+        // The JVM writes archives read-only
+        archive.toFile().setWritable(true);
+        Files.deleteIfExists(archive);
+        System.out.println("Generating CDS archive " + archive + "...");
+        launch(classDir, jar, mainClass, List.of("-XX:ArchiveClassesAtExit=" + archive), true);
+        return Files.exists(archive);
+    }
+
+    private static long[][] measure(Path classDir, Path jar, String mainClass, List<String> jvmOptions,
+                                    boolean fastStart, int runs) throws Exception {
+        long[] firstFrame = new long[runs];
+        long[] interactive = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] result = launch(classDir, jar, mainClass, jvmOptions, fastStart);
+            firstFrame[i] = result[0];
+            interactive[i] = result[1];
+        }
+        return new long[][] {firstFrame, interactive};
+    }
+
+    /**
+     * Runs the tool once and returns {firstFrameMillis, interactiveMillis}.
+     */
+    private static long[] launch(Path classDir, Path jar, String mainClass, List<String> jvmOptions, boolean fastStart)
+            throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-Dstartup.trace=true");
+        command.add("-Dstartup.exitAfterInteractive=true");
+        command.add("-cp");
+        command.add(jar.toString());
+        long launched = System.currentTimeMillis();
+        command.add("-Dstartup.launchMillis=" + launched);
+        command.add(mainClass);
+        if (fastStart) {
+            command.add("--fast-start");
+        }
+
+        Process process = new ProcessBuilder(command)
+            .directory(classDir.toFile())
+            .redirectErrorStream(true)
+            .start();
+
+        // Read on another thread, so a child that hangs cannot keep us past the timeout;
+        // draining also keeps a chatty child from blocking on a full pipe
+        long[] milestones = {-1, -1};
+        String[] lastLine = {""};
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    lastLine[0] = line;
+                    String[] parts = line.split(" ");
+                    if (parts.length == 3 && parts[0].equals("STARTUP")) {
+                        if (parts[1].equals("first-frame")) {
+                            milestones[0] = Long.parseLong(parts[2]);
+                        } else if (parts[1].equals("interactive")) {
+                            milestones[1] = Long.parseLong(parts[2]);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // The stream closes when the child is killed
+            }
+        }, "startup-output");
+        reader.setDaemon(true);
+        reader.start();
+
+        if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+            reader.join(1000);
+            throw new IllegalStateException(mainClass + " did not exit within " + RUN_TIMEOUT_SECONDS +
+                                            " s; is a display available? (last output: " + lastLine[0] + ")");
+        }
+        reader.join();
+        long firstFrame = milestones[0], interactive = milestones[1];
+        if (firstFrame < 0 || interactive < 0) {
+            throw new IllegalStateException(mainClass + " did not report its startup milestones (last output: " +
+                                            lastLine[0] + ")");
+        }
+        return new long[] {firstFrame, interactive};
+    }
+
+    private static void report(String mode, long[][] samples) {
+        long[] firstFrame = samples[0].clone();
+        long[] interactive = samples[1].clone();
+        Arrays.sort(firstFrame);
+        Arrays.sort(interactive);
+        System.out.printf("%-12s %7d %7d %7d %7d %7d %7d%n", mode,
+                          firstFrame[firstFrame.length / 2], firstFrame[0], firstFrame[firstFrame.length - 1],
+                          interactive[interactive.length / 2], interactive[0], interactive[interactive.length - 1]);
+    }
+}
@@ -0,0 +1,348 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Term Projection - Prelim, Midterm and Finals together
+ * Finds the lowest exam scores across all remaining exams that still reach
+ * a target final grade.
+ *
+ * Every term is graded like the Prelim:
+ *   Term Grade  = (Term Exam × 0.30) + (Term Class Standing × 0.70)
+ *   Final Grade = Prelim × 30% + Midterm × 30% + Finals × 40%
+ *
+ * Exam scores are whole points from 0 to 100. Among all combinations that
+ * reach the target, the plan keeps the highest single exam as low as
+ * possible and then the total points as low as possible, so no exam asks
+ * for more than it has to.
+ *
+ * The search is a memoized DP over (exams still to plan, grade points still
+ * needed). Points needed are counted in hundredths of a grade point and
+ * rounded up, so a plan never falls short. The memo does not depend on the
+ * student, so one instance answers a whole roster with each state solved
+ * once.
+ *
+ * Usage:
+ *   java PrelimGradeCalculatorGUI --project roster.csv [target] [projection.csv]
+ * The roster has no Midterm or Finals data, so every exam is still to be
+ * taken and the later class standings are assumed equal to the Prelim one.
+ */
+class TermProjection {
+
+    static final String[] TERMS = {"Prelim", "Midterm", "Finals"};
+    static final double[] TERM_WEIGHTS = {0.30, 0.30, 0.40};
+    static final int MAX_SCORE = 100;
+
+    static final String OUTPUT_HEADER =
+        "studentId,section,classStanding,prelimExam,midtermExam,finalsExam,projectedFinal,status";
+
+    // Grade points are counted in hundredths
+    private static final int UNITS = 100;
+    private static final int MAX_NEED = (int) (PrelimGradeCalculatorGUI.EXCELLENT_GRADE * UNITS);
+    private static final long UNSOLVED = -1;
+    private static final long IMPOSSIBLE = Long.MAX_VALUE;
+    // A plan's cost packed into one long: highest exam first, then total points
+    private static final long COST_SCALE = 1000;
+
+    /**
+     * What one student knows about their terms. Exam scores that are NaN
+     * have not been taken yet and are the ones the projection plans; a NaN
+     * class standing is not known yet and defaults to the Prelim one.
+     */
+    static final class Request {
+        final double[] classStanding = {Double.NaN, Double.NaN, Double.NaN};
+        final double[] examScores = {Double.NaN, Double.NaN, Double.NaN};
+        double target = PrelimGradeCalculatorGUI.PASSING_GRADE;
+
+        /**
+         * Returns the message to show the student, or null when the request is valid.
+         */
+        String validate() {
+            for (int t = 0; t < TERMS.length; t++) {
+                if (classStanding[t] < 0 || classStanding[t] > 100) {
+                    return TERMS[t] + " class standing must be between 0 and 100";
+                }
+                if (examScores[t] < 0 || examScores[t] > MAX_SCORE) {
+                    return TERMS[t] + " exam score must be between 0 and " + MAX_SCORE;
+                }
+            }
+            return validateTarget(target);
+        }
+    }
+
+    /**
+     * Returns the message to show for an unusable target grade, or null.
+     */
+    static String validateTarget(double target) {
+        if (!(target >= 0 && target <= PrelimGradeCalculatorGUI.EXCELLENT_GRADE)) {
+            return "Target grade must be between 0 and " + (int) PrelimGradeCalculatorGUI.EXCELLENT_GRADE;
+        }
+        return null;
+    }
+
+    /**
+     * The projected exam scores. planned[t] marks the scores the solver chose.
+     */
+    static final class Plan {
+        final double[] examScores = new double[TERMS.length];
+        final boolean[] planned = new boolean[TERMS.length];
+        double target, finalGrade;
+        boolean possible, guaranteed;
+
+        String status() {
+            if (!possible) {
+                return "CANNOT_REACH";
+            }
+            return guaranteed ? "GUARANTEED" : "PLAN";
+        }
+    }
+
+    // Shared by the calculator window, whose live updates may overlap
+    private static final TermProjection SHARED = new TermProjection();
+
+    // Hundredths of a final grade point that one exam point earns in each term
+    private final int[] unitsPerPoint = new int[TERMS.length];
+    // memo[remaining exams bitmask][units needed]: packed cost, UNSOLVED or IMPOSSIBLE
+    private final long[][] memo = new long[1 << TERMS.length][];
+    private final byte[][] choice = new byte[1 << TERMS.length][];
+
+    TermProjection() {
+        for (int t = 0; t < TERMS.length; t++) {
+            // Rounded down, so a plan never counts on more than the exam really gives
+            unitsPerPoint[t] = (int) Math.floor(
+                TERM_WEIGHTS[t] * PrelimGradeCalculatorGUI.PRELIM_EXAM_WEIGHT * UNITS + 1e-9);
+        }
+    }
+
+    static double termGrade(double exam, double classStanding) {
+        return exam * PrelimGradeCalculatorGUI.PRELIM_EXAM_WEIGHT +
+               classStanding * PrelimGradeCalculatorGUI.CLASS_STANDING_WEIGHT;
+    }
+
+    static double finalGrade(double[] examScores, double[] classStanding) {
+        double grade = 0;
+        for (int t = 0; t < TERMS.length; t++) {
+            grade += TERM_WEIGHTS[t] * termGrade(examScores[t], classStanding[t]);
+        }
+        return grade;
+    }
+
+    /**
+     * Plans the exams that are still to be taken. The request must be valid.
+     */
+    synchronized Plan solve(Request request) {
+        Plan plan = new Plan();
+        plan.target = request.target;
+
+        // Grade already earned: every class standing, plus the exams already taken
+        double earned = 0;
+        int remaining = 0;
+        for (int t = 0; t < TERMS.length; t++) {
+            earned += TERM_WEIGHTS[t] * request.classStanding[t] * PrelimGradeCalculatorGUI.CLASS_STANDING_WEIGHT;
+            if (Double.isNaN(request.examScores[t])) {
+                remaining |= 1 << t;
+            } else {
+                earned += TERM_WEIGHTS[t] * request.examScores[t] * PrelimGradeCalculatorGUI.PRELIM_EXAM_WEIGHT;
+            }
+        }
+
+        int need = (int) Math.ceil((request.target - earned) * UNITS - 1e-6);
+        plan.guaranteed = need <= 0;
+        need = Math.max(0, Math.min(need, MAX_NEED + 1));
+        plan.possible = need <= MAX_NEED && cost(remaining, need) != IMPOSSIBLE;
+
+        for (int t = 0; t < TERMS.length; t++) {
+            plan.planned[t] = (remaining & 1 << t) != 0;
+            plan.examScores[t] = plan.planned[t] ? 0 : request.examScores[t];
+        }
+        if (plan.possible) {
+            // Walk the memoized choices back out
+            for (int mask = remaining; mask != 0; mask &= mask - 1) {
+                int t = Integer.numberOfTrailingZeros(mask);
+                int score = choice[mask][need] & 0xFF;
+                plan.examScores[t] = score;
+                need = Math.max(0, need - unitsPerPoint[t] * score);
+            }
+        } else {
+            for (int t = 0; t < TERMS.length; t++) {
+                if (plan.planned[t]) {
+                    plan.examScores[t] = MAX_SCORE;
+                }
+            }
+        }
+        plan.finalGrade = finalGrade(plan.examScores, request.classStanding);
+        return plan;
+    }
+
+    /**
+     * Cheapest way for the exams in mask to earn need units, as a packed
+     * (highest exam, total points) cost, or IMPOSSIBLE.
+     */
+    private long cost(int mask, int need) {
+        if (need == 0) {
+            if (mask != 0) {
+                ensureMemo(mask);
+                choice[mask][0] = 0;
+            }
+            return 0;
+        }
+        if (mask == 0) {
+            return IMPOSSIBLE;
+        }
+        ensureMemo(mask);
+        long cached = memo[mask][need];
+        if (cached != UNSOLVED) {
+            return cached;
+        }
+
+        int term = Integer.numberOfTrailingZeros(mask);
+        int rest = mask & (mask - 1);
+        long best = IMPOSSIBLE;
+        int bestScore = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            int left = Math.max(0, need - unitsPerPoint[term] * score);
+            long restCost = cost(rest, left);
+            if (restCost != IMPOSSIBLE) {
+                long highest = Math.max(score, restCost / COST_SCALE);
+                long total = score + restCost % COST_SCALE;
+                long candidate = highest * COST_SCALE + total;
+                if (candidate < best) {
+                    best = candidate;
+                    bestScore = score;
+                }
+            }
+            if (left == 0) {
+                // Higher scores on this exam only cost more
+                break;
+            }
+        }
+        memo[mask][need] = best;
+        choice[mask][need] = (byte) bestScore;
+        return best;
+    }
+
+    private void ensureMemo(int mask) {
+        if (memo[mask] == null) {
+            memo[mask] = new long[MAX_NEED + 1];
+            Arrays.fill(memo[mask], UNSOLVED);
+            choice[mask] = new byte[MAX_NEED + 1];
+        }
+    }
+
+    // ===========================================================================
+    // OUTPUT
+    // ===========================================================================
+
+    /**
+     * Projection text for the calculator window. terms holds what the
+     * student entered; its Prelim class standing is replaced with the one
+     * from the form, and later class standings that are NaN default to it.
+     */
+    static String project(Request terms, double prelimClassStanding) {
+        Request request = new Request();
+        request.target = terms.target;
+        for (int t = 0; t < TERMS.length; t++) {
+            request.examScores[t] = terms.examScores[t];
+            request.classStanding[t] = t == 0 || Double.isNaN(terms.classStanding[t])
+                ? prelimClassStanding : terms.classStanding[t];
+        }
+        String error = request.validate();
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        return format(request, SHARED.solve(request));
+    }
+
+    static String format(Request request, Plan plan) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("═══════════════════════════════════════════════════════════\n");
+        sb.append("                 MULTI-TERM PROJECTION\n");
+        sb.append("═══════════════════════════════════════════════════════════\n\n");
+        sb.append(String.format("  Target Final Grade:   %.2f%n", plan.target));
+        sb.append(String.format("  Term weights:         Prelim %.0f%%, Midterm %.0f%%, Finals %.0f%%%n%n",
+                                TERM_WEIGHTS[0] * 100, TERM_WEIGHTS[1] * 100, TERM_WEIGHTS[2] * 100));
+        sb.append(String.format("  %-9s %14s %12s %12s%n", "Term", "Class Standing", "Exam", "Term Grade"));
+        for (int t = 0; t < TERMS.length; t++) {
+            String exam = plan.planned[t]
+                ? String.format("%s%d", plan.possible ? "need " : "max ", (int) plan.examScores[t])
+                : String.format("%.2f", plan.examScores[t]);
+            sb.append(String.format("  %-9s %14.2f %12s %12.2f%n", TERMS[t], request.classStanding[t], exam,
+                                    termGrade(plan.examScores[t], request.classStanding[t])));
+        }
+        sb.append('\n');
+
+        boolean anyPlanned = plan.planned[0] || plan.planned[1] || plan.planned[2];
+        if (!plan.possible && !anyPlanned) {
+            sb.append(String.format("  ❌ Not reached - your final grade is %.2f%n%n", plan.finalGrade));
+        } else if (!plan.possible) {
+            sb.append(String.format("  ❌ Impossible - even 100 on every remaining exam gives %.2f%n%n",
+                                    plan.finalGrade));
+        } else if (plan.guaranteed) {
+            sb.append("  ✓ Already Guaranteed!\n");
+            sb.append(String.format("  Your grades so far already give %.2f.%n%n", plan.finalGrade));
+        } else {
+            sb.append(String.format("  Projected Final Grade: %.2f%n", plan.finalGrade));
+            sb.append("  No remaining exam needs a higher score than shown.\n\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Projects every student of a roster and writes one CSV line each.
+     * Returns the number of students projected.
+     */
+    static int runRoster(Path roster, double target, Writer out) throws IOException {
+        TermProjection projection = new TermProjection();
+        PrelimGradeCalculatorGUI.GradeResult grade = new PrelimGradeCalculatorGUI.GradeResult();
+        String targetError = validateTarget(target);
+        if (targetError != null) {
+            throw new IllegalArgumentException(targetError);
+        }
+        Request request = new Request();
+        request.target = target;
+
+        out.write(OUTPUT_HEADER);
+        out.write('\n');
+        int projected = 0;
+        try (BufferedReader reader = Files.newBufferedReader(roster, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (RosterRecord.isSkippable(line)) {
+                    continue;
+                }
+                RosterRecord record;
+                try {
+                    record = RosterRecord.parse(line);
+                } catch (NumberFormatException e) {
+                    System.err.println(e.getMessage() + ": " + line);
+                    continue;
+                }
+                out.write(RosterRecord.csv(record.studentId));
+                out.write(',');
+                out.write(RosterRecord.csv(record.section));
+                out.write(',');
+                projected++;
+
+                String error = record.validate();
+                if (error != null) {
+                    out.write(",,,,," + RosterRecord.csv(error) + "\n");
+                    continue;
+                }
+                record.grade(grade);
+                if (grade.autoFailed) {
+                    out.write(",,,,,AUTO_FAIL\n");
+                    continue;
+                }
+
+                Arrays.fill(request.classStanding, grade.classStanding);
+                Plan plan = projection.solve(request);
+                out.write(String.format(Locale.ROOT, "%.2f,%d,%d,%d,%.2f,%s\n", grade.classStanding,
+                                        (int) plan.examScores[0], (int) plan.examScores[1],
+                                        (int) plan.examScores[2], plan.finalGrade, plan.status()));
+            }
+        }
+        return projected;
+    }
+}